@@ -0,0 +1,74 @@
+package cargo;
+
+import java.util.Arrays;
+
+// Teslim süresi kovaları: her kova geliş numaralarından oluşan çift yönlü bağlı liste, görünüme giriş sırasıyla
+// UndeliveredView ve OffHeapUndeliveredView'un ortak yapısı; bağlar ArrivalInts'te (numara + 1, 0 = yok).
+// Ekleme / çıkarma / üyelik: O(1), gezinme: O(k + C), C = kova sayısı (küçük)
+// Uzay karmaşıklığı: O(C) + dokunulan geliş numarası başına 8 byte
+// Eşzamanlılık: yok; kullanan görünümün kilidiyle korunur.
+final class ArrivalBuckets {
+    // Kova başı / sonu: numara + 1, 0 = boş kova
+    private int[] heads = new int[16];
+    private int[] tails = new int[16];
+    private final ArrivalInts prev = new ArrivalInts();
+    private final ArrivalInts next = new ArrivalInts();
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    // Kova sayısı (first için üst sınır)
+    int levels() {
+        return heads.length;
+    }
+
+    // Kovanın ilk numarası, boşsa -1
+    int first(int level) {
+        return heads[level] - 1;
+    }
+
+    // Aynı kovada sonraki numara, yoksa -1
+    int next(int id) {
+        return next.get(id) - 1;
+    }
+
+    // Önceki bağı olan ya da kovanın başı olan numara listededir
+    boolean contains(int id, int level) {
+        return (level < heads.length && heads[level] == id + 1) || prev.get(id) != 0;
+    }
+
+    // Kovanın sonuna ekler; zaten listedeyse false
+    boolean add(int id, int level) {
+        if(contains(id, level)) return false;
+        if(level >= heads.length) {
+            int cap = Math.max(level + 1, heads.length * 2);
+            heads = Arrays.copyOf(heads, cap);
+            tails = Arrays.copyOf(tails, cap);
+        }
+        int last = tails[level];
+        prev.set(id, last);
+        next.set(id, 0);
+        if(last == 0) heads[level] = id + 1;
+        else next.set(last - 1, id + 1);
+        tails[level] = id + 1;
+        size++;
+        return true;
+    }
+
+    // Listeden çıkarır; listede değilse false
+    boolean remove(int id, int level) {
+        if(!contains(id, level)) return false;
+        int before = prev.get(id);
+        int after = next.get(id);
+        if(before == 0) heads[level] = after;
+        else next.set(before - 1, after);
+        if(after == 0) tails[level] = before;
+        else prev.set(after - 1, before);
+        prev.set(id, 0);
+        next.set(id, 0);
+        size--;
+        return true;
+    }
+}
@@ -0,0 +1,34 @@
+package cargo;
+
+import java.util.Arrays;
+
+// Geliş numarasıyla (Shipment.arrival; yığın dışı modda slot numarası) indekslenen parçalı int dizisi
+// Yapıların gönderi başına kayıt alanları Shipment'ta değil burada tutulur (model sınıfı yapılardan bağımsız).
+// Geliş numaraları yoğun olduğundan parçalar dolu kullanılır; parça sadece içine ilk yazımda ayrılır.
+// Okuma / yazma: O(1), ayrılmamış konum 0 okunur
+// Uzay karmaşıklığı: dokunulan parça başına 4 * CHUNK byte
+// Eşzamanlılık: yok; kullanan yapının kilidiyle korunur.
+final class ArrivalInts {
+    static final int CHUNK_BITS = 12;
+    static final int CHUNK_MASK = (1 << CHUNK_BITS) - 1;
+
+    private int[][] chunks = new int[16][];
+
+    int get(int arrival) {
+        int c = arrival >>> CHUNK_BITS;
+        if(c >= chunks.length || chunks[c] == null) return 0;
+        return chunks[c][arrival & CHUNK_MASK];
+    }
+
+    void set(int arrival, int value) {
+        int c = arrival >>> CHUNK_BITS;
+        if(c >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(c + 1, chunks.length * 2));
+        }
+        if(chunks[c] == null) {
+            if(value == 0) return;
+            chunks[c] = new int[1 << CHUNK_BITS];
+        }
+        chunks[c][arrival & CHUNK_MASK] = value;
+    }
+}
@@ -0,0 +1,121 @@
+package cargo;
+
+import java.util.*;
+
+// Tek iş parçacıklı kova (Dial / radix) öncelik kuyruğu
+// deliveryTime küçük, negatif olmayan bir tamsayı olduğundan her değer için bir FIFO kova tutulur;
+// aynı öncelikteki gönderiler geliş sırasıyla çıkar (adil).
+// offer: O(1), poll: amortize O(1) (en küçük dolu kova işaretçisi ileri kayar), drainLevel: O(k)
+// Kova dizisi en büyük deliveryTime'a göre büyür.
+// Uzay karmaşıklığı: O(n + C), C = en büyük deliveryTime
+class BucketDispatchQueue implements DispatchQueue {
+    // Tek öncelik seviyesindeki gönderiler için dizi tabanlı halka FIFO
+    private static final class Level {
+        Shipment[] items = new Shipment[8];
+        int head;
+        int size;
+
+        void add(Shipment s) {
+            if(size == items.length) {
+                Shipment[] grown = new Shipment[items.length * 2];
+                for(int i = 0; i < size; i++) {
+                    grown[i] = items[(head + i) & (items.length - 1)];
+                }
+                items = grown;
+                head = 0;
+            }
+            items[(head + size) & (items.length - 1)] = s;
+            size++;
+        }
+
+        Shipment remove() {
+            Shipment s = items[head];
+            items[head] = null;
+            head = (head + 1) & (items.length - 1);
+            size--;
+            return s;
+        }
+    }
+
+    private Level[] levels = new Level[16];
+    private int minLevel; // bundan küçük seviyelerin hepsi boş
+    private int size;
+
+    @Override
+    public boolean offer(Shipment s) {
+        int t = s.deliveryTime;
+        if(t < 0) {
+            throw new IllegalArgumentException("deliveryTime negatif olamaz: " + t);
+        }
+        if(t >= levels.length) {
+            levels = Arrays.copyOf(levels, Math.max(t + 1, levels.length * 2));
+        }
+        Level level = levels[t];
+        if(level == null) {
+            level = levels[t] = new Level();
+        }
+        level.add(s);
+        if(t < minLevel) minLevel = t;
+        size++;
+        return true;
+    }
+
+    @Override
+    public Shipment poll() {
+        if(size == 0) return null;
+        advanceToMin();
+        size--;
+        return levels[minLevel].remove();
+    }
+
+    @Override
+    public int pollN(int max, Collection<? super Shipment> out) {
+        int taken = 0;
+        while(taken < max && size > 0) {
+            advanceToMin();
+            Level level = levels[minLevel];
+            while(taken < max && level.size > 0) {
+                out.add(level.remove());
+                taken++;
+                size--;
+            }
+        }
+        return taken;
+    }
+
+    @Override
+    public int drainLevel(int deliveryTime, Collection<? super Shipment> out) {
+        if(deliveryTime < 0 || deliveryTime >= levels.length || levels[deliveryTime] == null) return 0;
+        Level level = levels[deliveryTime];
+        int taken = level.size;
+        while(level.size > 0) {
+            out.add(level.remove());
+        }
+        size -= taken;
+        return taken;
+    }
+
+    // En öncelikli dolu seviye, kuyruk boşsa -1 (toplu dağıtım için)
+    public int minDeliveryTime() {
+        if(size == 0) return -1;
+        advanceToMin();
+        return minLevel;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // size > 0 iken çağrılır
+    private void advanceToMin() {
+        while(levels[minLevel] == null || levels[minLevel].size == 0) {
+            minLevel++;
+        }
+    }
+}
@@ -0,0 +1,477 @@
+package cargo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.IntStream;
+
+// Büyük müşteri/gönderi dosyalarını toplu içe aktarma
+//
+// Dosya biçimi (satır başına bir kayıt, '#' ile başlayan satırlar yok sayılır):
+//   C,<müşteriID>,<ad soyad>
+//   S,<müşteriID>,<gönderiID>,<YYYYMMDD>,<true|false>,<şehir>
+// Gönderiler dosyanın herhangi bir yerindeki (veya zaten kayıtlı) müşterilere ait olabilir.
+// Toplu modda müşteri ve gönderi ID'leri en fazla 18 hanelidir.
+//
+// Adımlar:
+//   1. Dosya satır sınırlarında parçalara bölünür, her parça memory-map edilip paralel ayrıştırılır
+//      (alanlar Validators ile byte düzeyinde doğrulanır, sonuçlar ilkel dizilere yazılır)
+//   2. Müşteriler ve şehirler sırayla eklenir / çözülür (az sayıda)
+//   3. Gönderiler paralel oluşturulur, müşteriye göre sayma sıralamasıyla gruplanır
+//   4. Her müşterinin geçmişi tek seferde sıralı kurulur ve indeks, görünüm, günlük dinleyicileri
+//      müşterinin kilidi içinde bilgilendirilir (müşteriler paralel)
+// Zaman karmaşıklığı: O(n) ayrıştırma + müşteri başına O(k log k), Uzay: O(n)
+class BulkImporter {
+    static final int MAX_ERROR_SAMPLES = 10;
+    private static final int MAX_CHUNK = 64 << 20;
+    private static final int MIN_CHUNK = 1 << 20;
+
+    private final CustomerList customers;
+    private final ShipmentLookup index;
+    private final ShipmentListener events;
+    private final RouteTree routeTree;
+
+    static final class Result {
+        int customers;
+        int shipments;
+        int errors;
+        long millis;
+        final ArrayList<String> errorSamples = new ArrayList<>();
+
+        void error(String message) {
+            errors++;
+            if(errorSamples.size() < MAX_ERROR_SAMPLES) errorSamples.add(message);
+        }
+    }
+
+    BulkImporter(CustomerList customers, ShipmentLookup index, ShipmentListener events, RouteTree routeTree) {
+        this.customers = customers;
+        this.index = index;
+        this.events = events;
+        this.routeTree = routeTree;
+    }
+
+    public Result importFile(Path file) throws IOException {
+        long start = System.nanoTime();
+        Result result = new Result();
+        Chunk[] chunks;
+        try(FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] bounds = splitAtLines(ch);
+            chunks = new Chunk[bounds.length - 1];
+            for(int c = 0; c < chunks.length; c++) {
+                chunks[c] = new Chunk(ch.map(FileChannel.MapMode.READ_ONLY, bounds[c], bounds[c + 1] - bounds[c]), bounds[c]);
+            }
+            // 1. Paralel ayrıştırma
+            IntStream.range(0, chunks.length).parallel().forEach(c -> chunks[c].parse());
+        }
+        for(Chunk chunk : chunks) {
+            for(String e : chunk.errorSamples) {
+                if(result.errorSamples.size() < MAX_ERROR_SAMPLES) result.errorSamples.add(e);
+            }
+            result.errors += chunk.errors;
+        }
+
+        // 2. Müşteriler (dosya sırasıyla) ve anahtar tablosu: mevcut müşteriler + yeni müşteriler
+        CustomerKeys keys = new CustomerKeys(customers.size + 16);
+        for(CustomerNode cn = customers.head; cn != null; cn = cn.next) {
+            String id = cn.customer.customerID;
+            if(id.length() <= 18 && Validators.isDigits(id)) {
+                keys.put(Long.parseLong(id), id.length(), cn.customer);
+            }
+        }
+        for(Chunk chunk : chunks) {
+            for(int i = 0; i < chunk.customerIds.size(); i++) {
+                String id = chunk.customerIds.get(i);
+                String name = chunk.customerNames.get(i);
+                Customer c = new Customer(id, name, events);
+                if(!customers.addCustomer(c)) {
+                    result.error("Bayt " + chunk.customerOffsets.get(i) + ": müşteri ID zaten kullanılıyor: " + id);
+                    continue;
+                }
+                keys.put(Long.parseLong(id), id.length(), c);
+                result.customers++;
+            }
+        }
+        // Şehirler: parça içi sıra no -> global CityTable sıra no ve teslim süresi
+        for(Chunk chunk : chunks) {
+            chunk.resolveCities(routeTree);
+        }
+
+        // 3. Gönderi nesneleri ve sahipleri (paralel, tablolar artık salt okunur)
+        IntStream.range(0, chunks.length).parallel().forEach(c -> chunks[c].buildShipments(keys));
+        int total = 0;
+        for(Chunk chunk : chunks) {
+            for(String e : chunk.buildErrors) {
+                result.error(e);
+            }
+            total += chunk.validShipments;
+        }
+
+        // Müşteri sırasına göre kararlı sayma sıralaması: her müşterinin gönderileri bitişik, dosya sırasında
+        int[] starts = new int[keys.size() + 1];
+        for(Chunk chunk : chunks) {
+            for(int i = 0; i < chunk.shipmentCount; i++) {
+                if(chunk.shipments[i] != null) starts[chunk.owner[i] + 1]++;
+            }
+        }
+        for(int k = 1; k < starts.length; k++) {
+            starts[k] += starts[k - 1];
+        }
+        Shipment[] grouped = new Shipment[total];
+        int[] fill = Arrays.copyOf(starts, keys.size());
+        for(Chunk chunk : chunks) {
+            for(int i = 0; i < chunk.shipmentCount; i++) {
+                if(chunk.shipments[i] != null) grouped[fill[chunk.owner[i]]++] = chunk.shipments[i];
+            }
+        }
+
+        // 4. Müşteri başına geçmiş toplu kurulumu + dinleyiciler (müşteriler birbirinden bağımsız -> paralel)
+        // Her müşterinin olayları kendi içinde dosya sırasıyla bildirilir; müşteriler arası sıra belirsizdir
+        // (aynı gönderi ID'si farklı müşterilerde tekrar ederse indekste hangisinin kalacağı da).
+        index.ensureCapacity(index.size() + total);
+        IntStream.range(0, keys.size()).parallel().forEach(o ->
+                keys.customer(o).loadShipmentsBulk(grouped, starts[o], starts[o + 1]));
+        result.shipments = total;
+        result.millis = (System.nanoTime() - start) / 1_000_000;
+        return result;
+    }
+
+    // Dosyayı işlemci sayısına göre satır sonlarında bölünmüş aralıklara ayırır
+    private static long[] splitAtLines(FileChannel ch) throws IOException {
+        long size = ch.size();
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        long target = Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size / (parallelism * 4L) + 1));
+        ArrayList<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long pos = 0;
+        while(pos < size) {
+            long end = Math.min(size, pos + target);
+            // Bir sonraki '\n' sonrasına kadar ilerle
+            outer:
+            while(end < size) {
+                probe.clear();
+                int n = ch.read(probe, end);
+                if(n <= 0) { end = size; break; }
+                for(int i = 0; i < n; i++) {
+                    if(probe.get(i) == '\n') {
+                        end += i + 1;
+                        break outer;
+                    }
+                }
+                end += n;
+            }
+            end = Math.min(end, size);
+            bounds.add(end);
+            pos = end;
+        }
+        long[] result = new long[bounds.size()];
+        for(int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }
+
+    // Dosyanın bir parçası: ayrıştırma sonuçları ilkel dizilerde
+    private static final class Chunk {
+        final MappedByteBuffer buf;
+        final long baseOffset;
+
+        final ArrayList<String> customerIds = new ArrayList<>();
+        final ArrayList<String> customerNames = new ArrayList<>();
+        final ArrayList<Long> customerOffsets = new ArrayList<>();
+
+        int shipmentCount;
+        long[] custValue = new long[1024];
+        byte[] custLen = new byte[1024];
+        long[] shipmentId = new long[1024];
+        int[] date = new int[1024];
+        boolean[] delivered = new boolean[1024];
+        int[] city = new int[1024]; // parça içi şehir sıra no
+        long[] lineOffset = new long[1024];
+
+        final CityKeys cities = new CityKeys();
+        int[] cityOrdinal;     // parça içi -> CityTable
+        int[] cityTransit;     // parça içi -> teslim süresi (-1 = rota ağacında yok)
+
+        Shipment[] shipments;
+        int[] owner;
+        int validShipments;
+        final ArrayList<String> buildErrors = new ArrayList<>();
+
+        int errors;
+        final ArrayList<String> errorSamples = new ArrayList<>();
+
+        Chunk(MappedByteBuffer buf, long baseOffset) {
+            this.buf = buf;
+            this.baseOffset = baseOffset;
+        }
+
+        void parse() {
+            int n = buf.limit();
+            int i = 0;
+            while(i < n) {
+                int lineEnd = i;
+                while(lineEnd < n && buf.get(lineEnd) != '\n') lineEnd++;
+                int end = lineEnd;
+                if(end > i && buf.get(end - 1) == '\r') end--;
+                if(end > i && buf.get(i) != '#') {
+                    parseLine(i, end);
+                }
+                i = lineEnd + 1;
+            }
+        }
+
+        private void parseLine(int from, int to) {
+            byte type = buf.get(from);
+            if(to - from < 2 || buf.get(from + 1) != ',') {
+                error(from, "bilinmeyen satır");
+                return;
+            }
+            int f1 = from + 2;
+            int c1 = indexOf(f1, to);
+            if(c1 < 0) { error(from, "eksik alan"); return; }
+            long cust = Validators.parseDigits(buf, f1, c1);
+            if(cust < 0) { error(from, "müşteri ID 1-18 rakam olmalı"); return; }
+            if(type == 'C') {
+                String name = decode(c1 + 1, to).trim();
+                if(!Validators.isValidName(name)) { error(from, "isim sadece harflerden oluşmalı"); return; }
+                customerIds.add(ascii(f1, c1));
+                customerNames.add(name);
+                customerOffsets.add(baseOffset + from);
+            } else if(type == 'S') {
+                int c2 = indexOf(c1 + 1, to);
+                int c3 = c2 < 0 ? -1 : indexOf(c2 + 1, to);
+                int c4 = c3 < 0 ? -1 : indexOf(c3 + 1, to);
+                if(c4 < 0) { error(from, "eksik alan"); return; }
+                long id = Validators.parseDigits(buf, c1 + 1, c2);
+                if(id < 0) { error(from, "gönderi ID 1-18 rakam olmalı"); return; }
+                int d = Validators.parseDate(buf, c2 + 1, c3);
+                if(d < 0) { error(from, "geçersiz tarih"); return; }
+                int b = parseBoolean(c3 + 1, c4);
+                if(b < 0) { error(from, "teslim alanı true/false olmalı"); return; }
+                if(c4 + 1 >= to) { error(from, "şehir boş"); return; }
+                int i = shipmentCount;
+                if(i == shipmentId.length) grow();
+                custValue[i] = cust;
+                custLen[i] = (byte) (c1 - f1);
+                shipmentId[i] = id;
+                date[i] = d;
+                delivered[i] = b == 1;
+                city[i] = cities.intern(buf, c4 + 1, to);
+                lineOffset[i] = baseOffset + from;
+                shipmentCount++;
+            } else {
+                error(from, "bilinmeyen kayıt tipi");
+            }
+        }
+
+        void resolveCities(RouteTree routeTree) {
+            cityOrdinal = new int[cities.size()];
+            cityTransit = new int[cities.size()];
+            for(int c = 0; c < cities.size(); c++) {
+                String name = cities.name(c);
+                cityTransit[c] = routeTree.transitTime(name);
+                cityOrdinal[c] = cityTransit[c] < 0 ? -1 : routeTree.cityOrdinal(name);
+            }
+        }
+
+        void buildShipments(CustomerKeys keys) {
+            shipments = new Shipment[shipmentCount];
+            owner = new int[shipmentCount];
+            for(int i = 0; i < shipmentCount; i++) {
+                int o = keys.ordinal(custValue[i], custLen[i]);
+                int c = city[i];
+                if(o < 0) {
+                    buildErrors.add("Bayt " + lineOffset[i] + ": müşteri bulunamadı");
+                    continue;
+                }
+                if(cityTransit[c] < 0) {
+                    buildErrors.add("Bayt " + lineOffset[i] + ": şehir rota ağacında yok: " + cities.name(c));
+                    continue;
+                }
+                shipments[i] = new Shipment(shipmentId[i], date[i], delivered[i], cityTransit[c], cityOrdinal[c]);
+                owner[i] = o;
+                validShipments++;
+            }
+        }
+
+        private int indexOf(int from, int to) {
+            for(int i = from; i < to; i++) {
+                if(buf.get(i) == ',') return i;
+            }
+            return -1;
+        }
+
+        // 1 = true, 0 = false, -1 = geçersiz (büyük/küçük harf duyarsız)
+        private int parseBoolean(int from, int to) {
+            if(matches(from, to, "true")) return 1;
+            if(matches(from, to, "false")) return 0;
+            return -1;
+        }
+
+        private boolean matches(int from, int to, String word) {
+            if(to - from != word.length()) return false;
+            for(int i = 0; i < word.length(); i++) {
+                if((buf.get(from + i) | 0x20) != word.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        private String decode(int from, int to) {
+            byte[] bytes = new byte[to - from];
+            buf.get(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private String ascii(int from, int to) {
+            char[] chars = new char[to - from];
+            for(int i = 0; i < chars.length; i++) chars[i] = (char) buf.get(from + i);
+            return new String(chars);
+        }
+
+        private void grow() {
+            int cap = shipmentId.length * 2;
+            custValue = Arrays.copyOf(custValue, cap);
+            custLen = Arrays.copyOf(custLen, cap);
+            shipmentId = Arrays.copyOf(shipmentId, cap);
+            date = Arrays.copyOf(date, cap);
+            delivered = Arrays.copyOf(delivered, cap);
+            city = Arrays.copyOf(city, cap);
+            lineOffset = Arrays.copyOf(lineOffset, cap);
+        }
+
+        private void error(int from, String message) {
+            errors++;
+            if(errorSamples.size() < MAX_ERROR_SAMPLES) {
+                errorSamples.add("Bayt " + (baseOffset + from) + ": " + message);
+            }
+        }
+    }
+
+    // (ID değeri, hane sayısı) -> müşteri sıra no; open addressing, yazma bittikten sonra paralel okunur
+    private static final class CustomerKeys {
+        private long[] values;
+        private byte[] lengths;
+        private int[] ordinals; // -1 = boş
+        private final ArrayList<Customer> byOrdinal = new ArrayList<>();
+
+        CustomerKeys(int expected) {
+            int cap = Integer.highestOneBit(Math.max(16, expected * 2) - 1) << 1;
+            values = new long[cap];
+            lengths = new byte[cap];
+            ordinals = new int[cap];
+            Arrays.fill(ordinals, -1);
+        }
+
+        int size() {
+            return byOrdinal.size();
+        }
+
+        Customer customer(int ordinal) {
+            return byOrdinal.get(ordinal);
+        }
+
+        void put(long value, int length, Customer c) {
+            if((byOrdinal.size() + 1) * 2 > ordinals.length) rehash();
+            int i = slot(value, length);
+            if(ordinals[i] >= 0) return;
+            values[i] = value;
+            lengths[i] = (byte) length;
+            ordinals[i] = byOrdinal.size();
+            byOrdinal.add(c);
+        }
+
+        int ordinal(long value, int length) {
+            return ordinals[slot(value, length)];
+        }
+
+        private int slot(long value, int length) {
+            long h = (value * 31 + length) * 0x9E3779B97F4A7C15L;
+            int mask = ordinals.length - 1;
+            int i = (int) (h ^ (h >>> 32)) & mask;
+            while(ordinals[i] >= 0 && (values[i] != value || lengths[i] != length)) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void rehash() {
+            long[] oldValues = values;
+            byte[] oldLengths = lengths;
+            int[] oldOrdinals = ordinals;
+            values = new long[oldOrdinals.length * 2];
+            lengths = new byte[oldOrdinals.length * 2];
+            ordinals = new int[oldOrdinals.length * 2];
+            Arrays.fill(ordinals, -1);
+            for(int j = 0; j < oldOrdinals.length; j++) {
+                if(oldOrdinals[j] < 0) continue;
+                int i = slot(oldValues[j], oldLengths[j]);
+                values[i] = oldValues[j];
+                lengths[i] = oldLengths[j];
+                ordinals[i] = oldOrdinals[j];
+            }
+        }
+    }
+
+    // Parça içi şehir adı tablosu: byte aralığı ile aranır, sadece yeni şehirde String oluşturulur
+    private static final class CityKeys {
+        private byte[][] keys = new byte[64][];
+        private int[] ordinals = new int[64];
+        private final ArrayList<String> names = new ArrayList<>();
+
+        int size() {
+            return names.size();
+        }
+
+        String name(int ordinal) {
+            return names.get(ordinal);
+        }
+
+        int intern(ByteBuffer buf, int from, int to) {
+            int h = 1;
+            for(int i = from; i < to; i++) h = 31 * h + buf.get(i);
+            int mask = keys.length - 1;
+            int i = (h * 0x9E3779B9) >>> 16 & mask;
+            while(keys[i] != null) {
+                if(equalsRange(keys[i], buf, from, to)) return ordinals[i];
+                i = (i + 1) & mask;
+            }
+            byte[] key = new byte[to - from];
+            buf.get(from, key);
+            keys[i] = key;
+            ordinals[i] = names.size();
+            names.add(new String(key, StandardCharsets.UTF_8));
+            if(names.size() * 2 > keys.length) rehash();
+            return names.size() - 1;
+        }
+
+        private static boolean equalsRange(byte[] key, ByteBuffer buf, int from, int to) {
+            if(key.length != to - from) return false;
+            for(int i = 0; i < key.length; i++) {
+                if(key[i] != buf.get(from + i)) return false;
+            }
+            return true;
+        }
+
+        private void rehash() {
+            byte[][] oldKeys = keys;
+            int[] oldOrdinals = ordinals;
+            keys = new byte[oldKeys.length * 2][];
+            ordinals = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for(int j = 0; j < oldKeys.length; j++) {
+                if(oldKeys[j] == null) continue;
+                int h = 1;
+                for(byte b : oldKeys[j]) h = 31 * h + b;
+                int i = (h * 0x9E3779B9) >>> 16 & mask;
+                while(keys[i] != null) i = (i + 1) & mask;
+                keys[i] = oldKeys[j];
+                ordinals[i] = oldOrdinals[j];
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package cargo;
+
+import java.util.*;
+
+// Menü işlemlerinin satır tabanlı metin protokolü ile çalıştırılması
+//
+// İstek: tek satır, boşlukla ayrılmış (isim ve şehir satırın geri kalanı)
+//   PING
+//   ADDC <müşteriID> <ad soyad>
+//   ADDS <müşteriID> <gönderiID> <YYYYMMDD> <true|false> <şehir>
+//   STATUS <gönderiID>
+//   DELIVER <gönderiID>
+//   HIST <müşteriID>
+//   LAST <müşteriID>
+//   UNDELIVERED [offset limit]
+//   ROUTES
+//   DISPATCH <gönderiID> <şehir>     (kuyruğa ekler, en öncelikliyi çıkarır - eski menü 8 davranışı)
+//   DISPATCHN <n>                    (en fazla n gönderiyi öncelik sırasıyla çıkarır)
+//   QUEUE <gönderiID> <şehir>        (sadece kuyruğa ekler, yanıt: OK <süre> - menü 8)
+//   PLAN [n]                         (en fazla n (<= 100000) gönderiyi araç yüklerine böler - menü 14)
+//   METRICS                          (CargoMetrics raporu, satır satır)
+// Yanıt: "OK ...", "ERR <mesaj>", "NOTFOUND" ya da çok satırlı "LIST <n>" + n satır
+// Gönderi satırı: <gönderiID> <YYYYMMDD> <0|1 teslim> <süre> <şehir>
+// Yük satırı: <araç> <dal şehri> <adet> <en uzak süre> <gönderiID>...
+class CargoCommands {
+    private final CustomerList customers;
+    private final ShipmentLookup index;
+    private final UndeliveredSource undelivered;
+    private final ShipmentListener events;
+    private final RouteTree routeTree;
+    private final DispatchQueue dispatchQueue;
+    // HIST / LAST yanıtlarının hazır metinleri (events üzerinden geçersiz kılınır)
+    private final HistoryRenderCache renderCache;
+    private final DispatchPlanner planner;
+
+    CargoCommands(CustomerList customers, ShipmentLookup index, UndeliveredSource undelivered,
+                  ShipmentListener events, RouteTree routeTree, DispatchQueue dispatchQueue,
+                  HistoryRenderCache renderCache, DispatchPlanner planner) {
+        this.customers = customers;
+        this.index = index;
+        this.undelivered = undelivered;
+        this.events = events;
+        this.routeTree = routeTree;
+        this.dispatchQueue = dispatchQueue;
+        this.renderCache = renderCache;
+        this.planner = planner;
+    }
+
+    // Tek istek satırını çalıştırıp yanıtı out'a (satır sonlarıyla) ekler
+    void execute(String line, StringBuilder out) {
+        int sp = line.indexOf(' ');
+        String cmd = sp < 0 ? line : line.substring(0, sp);
+        String rest = sp < 0 ? "" : line.substring(sp + 1).trim();
+        switch(cmd) {
+            case "PING":
+                out.append("OK PONG\n");
+                break;
+            case "ADDC":
+                addCustomer(rest, out);
+                break;
+            case "ADDS":
+                addShipment(rest, out);
+                break;
+            case "STATUS":
+                status(rest, out);
+                break;
+            case "DELIVER":
+                deliver(rest, out);
+                break;
+            case "HIST":
+                history(rest, out);
+                break;
+            case "LAST":
+                last(rest, out);
+                break;
+            case "UNDELIVERED":
+                undeliveredList(rest, out);
+                break;
+            case "ROUTES":
+                routes(out);
+                break;
+            case "DISPATCH":
+                dispatch(rest, out);
+                break;
+            case "DISPATCHN":
+                dispatchN(rest, out);
+                break;
+            case "QUEUE":
+                queue(rest, out);
+                break;
+            case "PLAN":
+                plan(rest, out);
+                break;
+            case "METRICS":
+                metrics(out);
+                break;
+            default:
+                out.append("ERR bilinmeyen komut\n");
+        }
+    }
+
+    private void addCustomer(String args, StringBuilder out) {
+        int sp = args.indexOf(' ');
+        if(sp < 0) { out.append("ERR eksik alan\n"); return; }
+        String id = args.substring(0, sp);
+        String name = args.substring(sp + 1).trim();
+        if(!Validators.isDigits(id)) { out.append("ERR ID sadece rakamlardan oluşmalı\n"); return; }
+        if(!Validators.isValidName(name)) { out.append("ERR isim sadece harflerden oluşmalı\n"); return; }
+        if(!customers.addCustomer(new Customer(id, name, events))) { out.append("ERR müşteri ID zaten kullanılıyor\n"); return; }
+        out.append("OK\n");
+    }
+
+    private void addShipment(String args, StringBuilder out) {
+        String[] f = args.split(" ", 5);
+        if(f.length < 5) { out.append("ERR eksik alan\n"); return; }
+        Customer c = customers.findCustomerByID(f[0]);
+        if(c == null) { out.append("ERR müşteri bulunamadı\n"); return; }
+        long id = Validators.parseDigits(f[1], 0, f[1].length());
+        if(id < 0) { out.append("ERR gönderi ID 1-18 rakam olmalı\n"); return; }
+        int date = Validators.parseDate(f[2]);
+        if(date < 0) { out.append("ERR geçersiz tarih\n"); return; }
+        String city = f[4].trim();
+        int deliveryTime = routeTree.transitTime(city);
+        if(deliveryTime < 0) { out.append("ERR şehir rota ağacında bulunamadı\n"); return; }
+        c.addShipmentSorted(new Shipment(id, date, Boolean.parseBoolean(f[3]), deliveryTime, routeTree.cityOrdinal(city)));
+        out.append("OK ").append(deliveryTime).append('\n');
+    }
+
+    private void status(String args, StringBuilder out) {
+        long id = Validators.parseDigits(args, 0, args.length());
+        Shipment s = id < 0 ? null : index.findShipment(id);
+        if(s == null) { out.append("NOTFOUND\n"); return; }
+        out.append("OK ");
+        appendShipment(s, out);
+    }
+
+    private void metrics(StringBuilder out) {
+        String[] lines = CargoMetrics.report().split("\n");
+        out.append("LIST ").append(lines.length).append('\n');
+        for(String line : lines) {
+            out.append(line).append('\n');
+        }
+    }
+
+    private void deliver(String args, StringBuilder out) {
+        long id = Validators.parseDigits(args, 0, args.length());
+        ShipmentLookup.Entry e = id < 0 ? null : index.entry(id);
+        if(e == null) { out.append("NOTFOUND\n"); return; }
+        e.owner.markDelivered(e.shipment, true);
+        out.append("OK\n");
+    }
+
+    private void history(String args, StringBuilder out) {
+        Customer c = customers.findCustomerByID(args);
+        if(c == null) { out.append("NOTFOUND\n"); return; }
+        out.append(renderCache.get(c, HistoryRenderCache.LIST_ALL, CargoCommands::historyList));
+    }
+
+    private void last(String args, StringBuilder out) {
+        Customer c = customers.findCustomerByID(args);
+        if(c == null) { out.append("NOTFOUND\n"); return; }
+        out.append(renderCache.get(c, HistoryRenderCache.LIST_LAST, CargoCommands::lastList));
+    }
+
+    // HIST yanıtı: geçmiş kilitsiz gezilir; bu sırada eklenen gönderi sayıya yansımasın diye satırlar önce sayılır
+    private static String historyList(Customer c) {
+        StringBuilder out = new StringBuilder();
+        int[] count = new int[1];
+        c.forEachShipment(s -> {
+            appendShipment(s, out);
+            count[0]++;
+        });
+        out.insert(0, "LIST " + count[0] + "\n");
+        return out.toString();
+    }
+
+    private static String lastList(Customer c) {
+        StringBuilder out = new StringBuilder();
+        Shipment[] last = new Shipment[Customer.LAST_N];
+        int n = c.lastShipments(last);
+        out.append("LIST ").append(n).append('\n');
+        for(int i = 0; i < n; i++) {
+            appendShipment(last[i], out);
+        }
+        return out.toString();
+    }
+
+    private void undeliveredList(String args, StringBuilder out) {
+        int offset = 0;
+        int limit = Integer.MAX_VALUE;
+        if(!args.isEmpty()) {
+            int sp = args.indexOf(' ');
+            long o = Validators.parseDigits(args, 0, sp < 0 ? args.length() : sp);
+            long l = sp < 0 ? -1 : Validators.parseDigits(args, sp + 1, args.length());
+            if(o < 0 || l < 0) { out.append("ERR UNDELIVERED [offset limit]\n"); return; }
+            offset = (int) Math.min(o, Integer.MAX_VALUE);
+            limit = (int) Math.min(l, Integer.MAX_VALUE);
+        }
+        int count = Math.max(0, Math.min(limit, undelivered.size() - offset));
+        out.append("LIST ").append(count).append('\n');
+        undelivered.forEach(offset, limit, s -> appendShipment(s, out));
+    }
+
+    private void routes(StringBuilder out) {
+        ArrayList<String> lines = new ArrayList<>();
+        appendRoutes(routeTree.root, "", lines);
+        out.append("LIST ").append(lines.size()).append('\n');
+        for(String l : lines) {
+            out.append(l).append('\n');
+        }
+    }
+
+    private static void appendRoutes(RouteNode node, String indent, List<String> lines) {
+        lines.add(indent + node.cityName + " (" + node.cityID + ")");
+        for(RouteNode child : node.children) {
+            appendRoutes(child, indent + "--", lines);
+        }
+    }
+
+    private void dispatch(String args, StringBuilder out) {
+        int sp = args.indexOf(' ');
+        if(sp < 0) { out.append("ERR eksik alan\n"); return; }
+        long id = Validators.parseDigits(args, 0, sp);
+        if(id < 0) { out.append("ERR gönderi ID 1-18 rakam olmalı\n"); return; }
+        String city = args.substring(sp + 1).trim();
+        int deliveryTime = routeTree.transitTime(city);
+        if(deliveryTime < 0) { out.append("ERR şehir rota ağacında bulunamadı\n"); return; }
+        dispatchQueue.offer(new Shipment(id, 20240101, false, deliveryTime, routeTree.cityOrdinal(city)));
+        Shipment top = dispatchQueue.poll();
+        out.append("OK ");
+        appendShipment(top, out);
+    }
+
+    private void dispatchN(String args, StringBuilder out) {
+        long n = Validators.parseDigits(args, 0, args.length());
+        if(n < 0) { out.append("ERR DISPATCHN <n>\n"); return; }
+        ArrayList<Shipment> batch = new ArrayList<>();
+        dispatchQueue.pollN((int) Math.min(n, 100_000), batch);
+        out.append("LIST ").append(batch.size()).append('\n');
+        for(Shipment s : batch) {
+            appendShipment(s, out);
+        }
+    }
+
+    private void queue(String args, StringBuilder out) {
+        int sp = args.indexOf(' ');
+        if(sp < 0) { out.append("ERR eksik alan\n"); return; }
+        long id = Validators.parseDigits(args, 0, sp);
+        if(id < 0) { out.append("ERR gönderi ID 1-18 rakam olmalı\n"); return; }
+        String city = args.substring(sp + 1).trim();
+        int deliveryTime = routeTree.transitTime(city);
+        if(deliveryTime < 0) { out.append("ERR şehir rota ağacında bulunamadı\n"); return; }
+        dispatchQueue.offer(new Shipment(id, 20240101, false, deliveryTime, routeTree.cityOrdinal(city)));
+        out.append("OK ").append(deliveryTime).append('\n');
+    }
+
+    // Yük sayısı planlamadan önce bilinmediği için satırlar önce yazılır, başlık sonra eklenir
+    private void plan(String args, StringBuilder out) {
+        long n = args.isEmpty() ? 100_000 : Validators.parseDigits(args, 0, args.length());
+        if(n < 0) { out.append("ERR PLAN [n]\n"); return; }
+        int mark = out.length();
+        int[] loads = new int[1];
+        planner.plan(dispatchQueue, (int) Math.min(n, 100_000), load -> {
+            out.append(load.vehicle).append(' ')
+                    .append(load.branch.cityName).append(' ')
+                    .append(load.shipments.length).append(' ')
+                    .append(load.maxDeliveryTime);
+            for(Shipment s : load.shipments) {
+                out.append(' ').append(s.shipmentID);
+            }
+            out.append('\n');
+            loads[0]++;
+        });
+        out.insert(mark, "LIST " + loads[0] + "\n");
+    }
+
+    private static void appendShipment(Shipment s, StringBuilder out) {
+        out.append(s.shipmentID).append(' ')
+                .append(s.dateText()).append(' ')
+                .append(s.delivered ? '1' : '0').append(' ')
+                .append(s.deliveryTime).append(' ')
+                .append(s.destinationCity()).append('\n');
+    }
+}
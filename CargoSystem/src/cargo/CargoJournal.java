@@ -0,0 +1,571 @@
+package cargo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.CRC32C;
+
+// Müşteri ve gönderiler için sadece-ekle (append-only) ikili günlük + periyodik anlık görüntü (snapshot)
+//
+// Dosyalar (dataDir içinde):
+//   journal-<g>.log : g. nesilden sonraki olaylar
+//   snapshot.bin    : g. nesle kadar tüm durum (ilk kaydı nesil numarasını taşır)
+// Kayıt çerçevesi: [int uzunluk][tip + alanlar][int CRC32C]; yarım/bozuk kuyruk açılışta kesilir.
+//
+// Olaylar önce bellekteki toplu tampona yazılır (group commit); tampon dolunca, arka plan
+// zamanlayıcısında (cargo.journal.flushMillis) veya close() ile tek write ile diske gider.
+// Disk yazılamıyorsa olay reddedilmez (bellekteki yapılar dinleyiciden önce değişmiş olur): tampon
+// büyütülüp kayıt bekletilir, hata writeFailure() ile bildirilir ve yazım düzelince hepsi sırayla diske gider.
+// Her cargo.snapshotEvery olayda arka plan iş parçacığı bir anlık görüntü alıp yeni nesil günlüğe geçer.
+// Açılışta anlık görüntü ve günlük kuyruğu memory-mapped okunup tekrar oynatılır.
+// Anlık görüntü önce tüm müşterileri, sonra tüm gönderileri geliş sırasıyla (Shipment.arrival) yazar;
+// tekrar oynatma gönderileri aynı sırayla eklediği için son N, aynı tarihlilerin sırası, teslim edilmemiş
+// görünümün kovaları ve tekrar eden ID'de indeksin tuttuğu kayıt yeniden başlatmadan sonra aynı kalır.
+//
+// Eşzamanlılık: olaylar müşteri kilidi içinden gelir ve günlük kilidiyle sıralanır.
+// Anlık görüntü yazanları durdurmaz: nesil geçişinden sonra müşteriler tek tek (kendi kilidiyle)
+// kopyalanır. Geçişten sonra yazılan ama kopyaya da giren olaylar Customer.version ile ayırt edilir:
+// gönderi/teslim kayıtları müşterinin olay sonrası sürümünü taşır, anlık görüntüdeki sürümden
+// büyük olmayanlar tekrar oynatmada atlanır.
+//
+// Olay ekleme: O(1) amortize, kurtarma: O(olay sayısı), anlık görüntü: O(müşteri + gönderi)
+// Dağıtım kuyruğu (shipmentPQ) ve kodla kurulan rota ağacı kaydedilmez.
+class CargoJournal implements ShipmentListener, CustomerListener {
+    static final byte CUSTOMER = 1;       // müşteri ID + ad (günlük)
+    static final byte SHIPMENT = 2;       // müşteri ID + sürüm + gönderi + şehir adı (günlük)
+    static final byte DELIVERY = 3;       // müşteri ID + sürüm + gönderi ID + yeni teslim durumu
+    static final byte SNAPSHOT_HEADER = 4; // nesil numarası
+    static final byte CITY = 5;           // dosya içi şehir sıra no -> ad (anlık görüntü)
+    static final byte SNAPSHOT_CUSTOMER = 7; // müşteri ID + ad + kopyalandığı andaki sürüm (anlık görüntü)
+    static final byte SNAPSHOT_SHIPMENT = 8; // dosya içi müşteri sıra no + gönderi, şehir sıra no ile (anlık görüntü)
+
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final int MAP_WINDOW = 1 << 28; // en fazla 256MB'lık pencerelerle map edilir
+    private static final int MAX_RECORD = 1 << 18;
+
+    private final Path dir;
+    private final CustomerList customers;
+    private final boolean fsync = Boolean.getBoolean("cargo.journal.fsync");
+    private final long snapshotEvery = Long.getLong("cargo.snapshotEvery", 1_000_000L);
+    private final int batchBytes = Integer.getInteger("cargo.journal.batchBytes", 1 << 20);
+    // Yazım hatasında büyütülür, boşalınca tekrar batchBytes'a döner (günlük kilidiyle)
+    private ByteBuffer batch = ByteBuffer.allocateDirect(batchBytes);
+    private final CRC32C crc = new CRC32C();
+    private final ScheduledExecutorService flusher;
+    // Aynı anda tek anlık görüntü
+    private final Object snapshotGuard = new Object();
+
+    private FileChannel channel;
+    private long generation;
+    private long eventsSinceSnapshot;
+    private volatile boolean snapshotDue;
+    // Son yazım hatası (başarılı arka plan turunda temizlenir)
+    private volatile Exception writeFailure;
+
+    private CargoJournal(Path dir, CustomerList customers, long generation, FileChannel channel) {
+        this.dir = dir;
+        this.customers = customers;
+        this.generation = generation;
+        this.channel = channel;
+        long flushMillis = Long.getLong("cargo.journal.flushMillis", 10L);
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cargo-journal-flush");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(this::background, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Anlık görüntü + günlük kuyruğunu customers/index'e yükler ve ekleme için günlüğü açar
+    // Yükleme sırasında müşteriler events dinleyicisi ile oluşturulur; günlük daha sonra dinleyici
+    // olarak eklenmelidir (customers.listener ve events'e), böylece tekrar oynatma günlüğe yazılmaz.
+    static CargoJournal open(Path dir, CustomerList customers, ShipmentLookup index, ShipmentListener events) throws IOException {
+        Files.createDirectories(dir);
+        Replayer replayer = new Replayer(customers, index, events);
+        long generation = 0;
+        Path snapshot = dir.resolve(SNAPSHOT);
+        if(Files.exists(snapshot)) {
+            try(FileChannel ch = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                replay(ch, replayer);
+            }
+            generation = replayer.snapshotGeneration;
+        }
+        // Anlık görüntüye dahil olan eski günlükleri sil, kalanları nesil sırasıyla oynat
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        try(DirectoryStream<Path> files = Files.newDirectoryStream(dir, "journal-*.log")) {
+            for(Path p : files) {
+                String name = p.getFileName().toString();
+                journals.put(Long.parseLong(name.substring(8, name.length() - 4)), p);
+            }
+        }
+        for(Map.Entry<Long, Path> e : journals.entrySet()) {
+            if(e.getKey() < generation) {
+                Files.delete(e.getValue());
+                continue;
+            }
+            generation = e.getKey();
+            try(FileChannel ch = FileChannel.open(e.getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long end = replay(ch, replayer);
+                ch.truncate(end); // yarım kalmış kuyruğu at
+            }
+        }
+        FileChannel ch = FileChannel.open(journalPath(dir, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        ch.position(ch.size());
+        return new CargoJournal(dir, customers, generation, ch);
+    }
+
+    @Override
+    public synchronized void onCustomerAdded(Customer c) {
+        byte[] id = utf8(c.customerID);
+        byte[] name = utf8(c.name);
+        int start = begin(1 + 2 + id.length + 2 + name.length);
+        batch.put(CUSTOMER);
+        putBytes(batch, id);
+        putBytes(batch, name);
+        end(start);
+    }
+
+    // Müşterinin kilidi içinden çağrılır: owner.version bu olayın sürümüdür
+    @Override
+    public synchronized void onShipmentAdded(Customer owner, Shipment s) {
+        byte[] id = utf8(owner.customerID);
+        byte[] city = utf8(s.destinationCity());
+        int start = begin(1 + 2 + id.length + 8 + 8 + 4 + 1 + 4 + 2 + city.length);
+        batch.put(SHIPMENT);
+        putBytes(batch, id);
+        batch.putLong(owner.version);
+        batch.putLong(s.shipmentID);
+        batch.putInt(s.date);
+        batch.put((byte) (s.delivered ? 1 : 0));
+        batch.putInt(s.deliveryTime);
+        putBytes(batch, city);
+        end(start);
+    }
+
+    @Override
+    public synchronized void onDeliveryChanged(Customer owner, Shipment s) {
+        byte[] id = utf8(owner.customerID);
+        int start = begin(1 + 2 + id.length + 8 + 8 + 1);
+        batch.put(DELIVERY);
+        putBytes(batch, id);
+        batch.putLong(owner.version);
+        batch.putLong(s.shipmentID);
+        batch.put((byte) (s.delivered ? 1 : 0));
+        end(start);
+    }
+
+    // Tampondaki olayları diske yazar (cargo.journal.fsync=true ise fsync de yapar)
+    // Yazma hata verirse yazılamayan kısım tamponda kalır, sonraki flush onu tekrar dener
+    public synchronized void flush() throws IOException {
+        batch.flip();
+        try {
+            while(batch.hasRemaining()) {
+                channel.write(batch);
+            }
+        } finally {
+            batch.compact();
+        }
+        if(batch.capacity() > batchBytes && batch.position() == 0) {
+            // Hata sırasında büyüyen tampon boşaldı
+            batch = ByteBuffer.allocateDirect(batchBytes);
+        }
+        if(fsync) {
+            channel.force(false);
+        }
+    }
+
+    // Tüm müşteri/gönderi durumunu yeni nesil anlık görüntüye yazar ve yeni günlüğe geçer
+    // Yazanlar çalışmaya devam eder; sadece kopyalanan müşterinin yazanları kopya süresince bekler
+    public void snapshot() throws IOException {
+        synchronized(snapshotGuard) {
+            long next;
+            // Nesil geçişi müşteri listesi kilidiyle (addCustomer ile aynı sıra: liste -> günlük):
+            // eski nesle kaydı yazılmış her müşteri artık listede görünür
+            synchronized(customers) {
+                synchronized(this) {
+                    flush();
+                    next = generation + 1;
+                    FileChannel nextChannel = FileChannel.open(journalPath(dir, next),
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                    channel.force(false);
+                    channel.close();
+                    channel = nextChannel;
+                    generation = next;
+                    eventsSinceSnapshot = 0;
+                    snapshotDue = false;
+                }
+            }
+            Path tmp = dir.resolve(SNAPSHOT + ".tmp");
+            try(FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                writeSnapshot(out, next);
+                out.force(true);
+            }
+            Files.move(tmp, dir.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(journalPath(dir, next - 1));
+        }
+    }
+
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized(this) {
+            flush();
+            channel.force(false);
+            channel.close();
+        }
+    }
+
+    // Anlık görüntü yazımı: günlükle aynı çerçeve, kendi tamponu doldukça out'a boşaltılır
+    // (günlük tamponu bu sırada olay eklemeye devam eder)
+    // Müşteriler tek tek kopyalanır; gönderiler (geliş sırası, konum) anahtarlarıyla toplanıp sıralanır
+    // Zaman karmaşıklığı: O(m log m), ek bellek gönderi başına 16 byte (yığın dışı modda nesne yok)
+    private void writeSnapshot(FileChannel out, long snapshotGeneration) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(4 * MAX_RECORD);
+        CRC32C snapCrc = new CRC32C();
+        HashMap<Integer, Integer> fileCities = new HashMap<>();
+        SnapshotOrder order = new SnapshotOrder();
+        int start = beginTo(buf, 1 + 8, out);
+        buf.put(SNAPSHOT_HEADER);
+        buf.putLong(snapshotGeneration);
+        putCrc(buf, snapCrc, start);
+        int fileCustomer = 0;
+        for(CustomerNode cn = customers.head; cn != null; cn = cn.next, fileCustomer++) {
+            Customer c = cn.customer;
+            int owner = fileCustomer;
+            long version = c.snapshotHistory((s, slot) -> order.add(s, slot, owner));
+            byte[] id = utf8(c.customerID);
+            byte[] name = utf8(c.name);
+            start = beginTo(buf, 1 + 2 + id.length + 2 + name.length + 8, out);
+            buf.put(SNAPSHOT_CUSTOMER);
+            putBytes(buf, id);
+            putBytes(buf, name);
+            buf.putLong(version);
+            putCrc(buf, snapCrc, start);
+        }
+        order.sort();
+        Shipment cursor = new Shipment(0L, 0, false, 0, 0);
+        for(int i = 0; i < order.size; i++) {
+            int at = order.position(i);
+            Shipment s = order.shipments != null ? order.shipments[at] : OffHeapShipmentStore.INSTANCE.load(order.slots[at], cursor);
+            Integer city = fileCities.get(s.cityOrdinal);
+            if(city == null) {
+                city = fileCities.size();
+                fileCities.put(s.cityOrdinal, city);
+                byte[] cityName = utf8(s.destinationCity());
+                start = beginTo(buf, 1 + 4 + 2 + cityName.length, out);
+                buf.put(CITY);
+                buf.putInt(city);
+                putBytes(buf, cityName);
+                putCrc(buf, snapCrc, start);
+            }
+            start = beginTo(buf, 1 + 4 + 8 + 4 + 1 + 4 + 4, out);
+            buf.put(SNAPSHOT_SHIPMENT);
+            buf.putInt(order.owners[at]);
+            buf.putLong(s.shipmentID);
+            buf.putInt(s.date);
+            buf.put((byte) (s.delivered ? 1 : 0));
+            buf.putInt(s.deliveryTime);
+            buf.putInt(city);
+            putCrc(buf, snapCrc, start);
+        }
+        drainTo(buf, out);
+    }
+
+    // Anlık görüntüdeki gönderilerin geliş sırası: anahtar = (işaretsiz arrival << 32) | konum
+    // Yığın içi modda gönderi referansları, yığın dışı modda slot numaraları tutulur
+    private static final class SnapshotOrder {
+        long[] keys = new long[1024];
+        Shipment[] shipments;
+        int[] slots;
+        int[] owners = new int[1024];
+        int size;
+
+        void add(Shipment s, int slot, int owner) {
+            if(size == keys.length) {
+                int cap = size * 2;
+                keys = Arrays.copyOf(keys, cap);
+                owners = Arrays.copyOf(owners, cap);
+                if(shipments != null) shipments = Arrays.copyOf(shipments, cap);
+                if(slots != null) slots = Arrays.copyOf(slots, cap);
+            }
+            int arrival;
+            if(s != null) {
+                if(shipments == null) shipments = new Shipment[keys.length];
+                shipments[size] = s;
+                arrival = s.arrival;
+            } else {
+                if(slots == null) slots = new int[keys.length];
+                slots[size] = slot;
+                arrival = slot;
+            }
+            owners[size] = owner;
+            keys[size] = Integer.toUnsignedLong(arrival) << 32 | size;
+            size++;
+        }
+
+        void sort() {
+            Arrays.sort(keys, 0, size);
+        }
+
+        // Sıralı i. gönderinin dizilerdeki konumu
+        int position(int i) {
+            return (int) keys[i];
+        }
+    }
+
+    // Kayıt başlatır: yer yoksa önce tamponu boşaltır, uzunluk alanını ayırır; kayıt başını döndürür
+    // Boşaltma başarısızsa istisna atılmaz (olay bellekte zaten uygulandı): tampon büyütülür, hata bildirilir
+    private int begin(int payloadLength) {
+        checkLength(payloadLength);
+        if(batch.remaining() < payloadLength + 8) {
+            try {
+                flush();
+            } catch(IOException e) {
+                reportFailure(e);
+            }
+            if(batch.remaining() < payloadLength + 8) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(batch.capacity() * 2, batch.position() + payloadLength + 8));
+                batch.flip();
+                grown.put(batch);
+                batch = grown;
+            }
+        }
+        int start = batch.position();
+        batch.putInt(payloadLength);
+        return start;
+    }
+
+    // Anlık görüntü kaydı başlatır, tampon dolmak üzereyse önce out'a yazar
+    private static int beginTo(ByteBuffer buf, int payloadLength, FileChannel out) throws IOException {
+        checkLength(payloadLength);
+        if(buf.remaining() < payloadLength + 8) {
+            drainTo(buf, out);
+        }
+        int start = buf.position();
+        buf.putInt(payloadLength);
+        return start;
+    }
+
+    private static void checkLength(int payloadLength) {
+        if(payloadLength + 8 > MAX_RECORD) {
+            throw new IllegalArgumentException("Kayıt çok büyük: " + payloadLength);
+        }
+    }
+
+    // Kaydı CRC ile kapatır ve olay sayacını işletir
+    // Anlık görüntü burada alınmaz (yazan müşteri kilidini tutuyor); arka plan iş parçacığına bırakılır
+    private void end(int start) {
+        putCrc(batch, crc, start);
+        if(++eventsSinceSnapshot >= snapshotEvery) {
+            snapshotDue = true;
+        }
+    }
+
+    private static void putCrc(ByteBuffer buf, CRC32C crc, int start) {
+        int payloadStart = start + 4;
+        ByteBuffer payload = buf.duplicate();
+        payload.position(payloadStart).limit(buf.position());
+        crc.reset();
+        crc.update(payload);
+        buf.putInt((int) crc.getValue());
+    }
+
+    private static void drainTo(ByteBuffer buf, FileChannel out) throws IOException {
+        buf.flip();
+        while(buf.hasRemaining()) {
+            out.write(buf);
+        }
+        buf.clear();
+    }
+
+    // Zamanlayıcı görevi: tamponu diske yazar, gerekiyorsa anlık görüntü alır
+    // Hata dışarı atılmaz (scheduleWithFixedDelay görevi sessizce iptal ederdi): yazılır ve sonraki turda
+    // tekrar denenir. Bu sürede gelen olaylar büyüyen tamponda bekler.
+    private void background() {
+        try {
+            flush();
+            if(snapshotDue) {
+                snapshot();
+            }
+            if(writeFailure != null) {
+                writeFailure = null;
+                System.err.println("Günlük yazımı tekrar çalışıyor: " + dir);
+            }
+        } catch(IOException | RuntimeException e) {
+            reportFailure(e);
+        }
+    }
+
+    // Son yazım hatası (arka plan ya da tampon boşaltma), yoksa null
+    Exception writeFailure() {
+        return writeFailure;
+    }
+
+    private void reportFailure(Exception e) {
+        // Her denemede değil, sadece ilk hatada yazılır
+        if(writeFailure == null) {
+            System.err.println("Günlük yazılamadı, tekrar denenecek: " + e);
+        }
+        writeFailure = e;
+    }
+
+    private static void putBytes(ByteBuffer buf, byte[] bytes) {
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    private static byte[] utf8(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if(bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Alan 65535 byte'tan uzun olamaz");
+        }
+        return bytes;
+    }
+
+    private static Path journalPath(Path dir, long generation) {
+        return dir.resolve("journal-" + generation + ".log");
+    }
+
+    // Dosyadaki geçerli kayıtları sırayla uygular, son geçerli kaydın bittiği konumu döndürür
+    // Dosya pencereler halinde map edilir; bir kayıt pencere sonuna taşarsa kayıt başından yeniden map edilir
+    private static long replay(FileChannel ch, Replayer replayer) throws IOException {
+        long size = ch.size();
+        long pos = 0;
+        long windowStart = 0;
+        MappedByteBuffer window = null;
+        CRC32C crc = new CRC32C();
+        while(pos + 4 <= size) {
+            if(window == null || pos + 4 > windowStart + window.limit()) {
+                windowStart = pos;
+                window = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW, size - pos));
+            }
+            int len = window.getInt((int) (pos - windowStart));
+            if(len <= 0 || len + 8 > MAX_RECORD || pos + 8 + len > size) break;
+            if(pos + 8 + len > windowStart + window.limit()) {
+                windowStart = pos;
+                window = ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW, size - pos));
+            }
+            int off = (int) (pos - windowStart);
+            ByteBuffer payload = window.duplicate();
+            payload.position(off + 4).limit(off + 4 + len);
+            crc.reset();
+            crc.update(payload.duplicate());
+            if((int) crc.getValue() != window.getInt(off + 4 + len)) break;
+            replayer.apply(payload);
+            pos += 8 + len;
+        }
+        return pos;
+    }
+
+    // Kayıtları bellekteki yapılara uygular (tek iş parçacığı, açılışta)
+    private static final class Replayer {
+        final CustomerList customers;
+        final ShipmentLookup index;
+        final ShipmentListener events;
+        final ArrayList<Integer> cities = new ArrayList<>();
+        // Anlık görüntüdeki müşteriler dosya sırasıyla ve kopyalandıkları andaki sürümleri
+        final ArrayList<Customer> snapshotCustomers = new ArrayList<>();
+        final ArrayList<Long> snapshotVersions = new ArrayList<>();
+        long snapshotGeneration;
+
+        Replayer(CustomerList customers, ShipmentLookup index, ShipmentListener events) {
+            this.customers = customers;
+            this.index = index;
+            this.events = events;
+        }
+
+        void apply(ByteBuffer r) {
+            byte type = r.get();
+            switch(type) {
+                case SNAPSHOT_HEADER:
+                    snapshotGeneration = r.getLong();
+                    break;
+                case CUSTOMER: {
+                    // Anlık görüntüye de girmiş olabilir, bu durumda addCustomer eklemez
+                    String id = getString(r);
+                    String name = getString(r);
+                    customers.addCustomer(new Customer(id, name, events));
+                    break;
+                }
+                case SNAPSHOT_CUSTOMER: {
+                    String id = getString(r);
+                    String name = getString(r);
+                    Customer c = new Customer(id, name, events);
+                    long version = r.getLong();
+                    customers.addCustomer(c);
+                    c.restoreVersion(version);
+                    snapshotCustomers.add(c);
+                    snapshotVersions.add(version);
+                    break;
+                }
+                case SNAPSHOT_SHIPMENT: {
+                    int fileCustomer = r.getInt();
+                    long id = r.getLong();
+                    int date = r.getInt();
+                    boolean delivered = r.get() != 0;
+                    int deliveryTime = r.getInt();
+                    int city = cities.get(r.getInt());
+                    // Kayıtlar geliş sırasında: ekleme sırası (son N, görünüm, indeks) korunur
+                    Customer owner = snapshotCustomers.get(fileCustomer);
+                    owner.addShipmentSorted(new Shipment(id, date, delivered, deliveryTime, city));
+                    owner.restoreVersion(snapshotVersions.get(fileCustomer));
+                    break;
+                }
+                case CITY: {
+                    int fileOrdinal = r.getInt();
+                    while(cities.size() <= fileOrdinal) cities.add(null);
+                    cities.set(fileOrdinal, CityTable.intern(getString(r)));
+                    break;
+                }
+                case SHIPMENT: {
+                    Customer owner = customers.findCustomerByID(getString(r));
+                    long version = r.getLong();
+                    long id = r.getLong();
+                    int date = r.getInt();
+                    boolean delivered = r.get() != 0;
+                    int deliveryTime = r.getInt();
+                    int city = CityTable.intern(getString(r));
+                    // Sürümü anlık görüntüdekinden büyük olmayan olay zaten uygulanmıştır
+                    if(owner != null && version > owner.version) {
+                        owner.addShipmentSorted(new Shipment(id, date, delivered, deliveryTime, city));
+                        owner.restoreVersion(version);
+                    }
+                    break;
+                }
+                case DELIVERY: {
+                    Customer owner = customers.findCustomerByID(getString(r));
+                    long version = r.getLong();
+                    long id = r.getLong();
+                    boolean delivered = r.get() != 0;
+                    if(owner == null || version <= owner.version) break;
+                    ShipmentLookup.Entry e = index.entry(id);
+                    if(e != null && e.owner == owner) {
+                        owner.markDelivered(e.shipment, delivered);
+                    }
+                    owner.restoreVersion(version);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Bilinmeyen günlük kaydı: " + type);
+            }
+        }
+
+        private static String getString(ByteBuffer r) {
+            int len = r.getShort() & 0xFFFF;
+            byte[] bytes = new byte[len];
+            r.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package cargo;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+// CargoServer için yerel yük üreteci
+// Kullanım: java -cp CargoSystem/target/classes cargo.CargoLoadGenerator [host] [port] [istemci] [istemci başına istek] [pipeline derinliği]
+// Her istemci kendi müşterisini oluşturur, sonra ADDS / STATUS / LAST / HIST karışımını
+// pipeline derinliği kadar toplu gönderir. İstek gecikmesi = grubun gönderilmesinden o isteğin
+// yanıtının okunmasına kadar geçen süre. Sonunda p50/p90/p99/p99.9 ve istek/sn yazdırılır.
+public class CargoLoadGenerator {
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7070;
+        int clients = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 100_000;
+        int depth = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        for(int c = 0; c < clients; c++) {
+            int clientId = c;
+            results.add(pool.submit(() -> runClient(host, port, clientId, requests, depth)));
+        }
+        long[] all = new long[clients * requests];
+        int n = 0;
+        for(Future<long[]> f : results) {
+            long[] lat = f.get();
+            System.arraycopy(lat, 0, all, n, lat.length);
+            n += lat.length;
+        }
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        Arrays.sort(all, 0, n);
+        System.out.printf("istek: %d, süre: %.2f s, verim: %.0f istek/s%n", n, elapsed / 1e9, n / (elapsed / 1e9));
+        System.out.printf("p50: %.1f us, p90: %.1f us, p99: %.1f us, p99.9: %.1f us, max: %.1f us%n",
+                percentile(all, n, 0.50), percentile(all, n, 0.90), percentile(all, n, 0.99),
+                percentile(all, n, 0.999), all[n - 1] / 1e3);
+    }
+
+    private static double percentile(long[] sorted, int n, double p) {
+        return sorted[Math.min(n - 1, (int) (p * n))] / 1e3;
+    }
+
+    private static long[] runClient(String host, int port, int clientId, int requests, int depth) throws IOException {
+        long[] latencies = new long[requests];
+        try(SocketChannel ch = SocketChannel.open(new InetSocketAddress(host, port))) {
+            ch.socket().setTcpNoDelay(true);
+            LineReader reader = new LineReader(ch);
+            String customer = String.valueOf(900_000_000L + clientId);
+            send(ch, "ADDC " + customer + " Yuk Testi\n");
+            reader.readResponse();
+            long nextShipment = (long) clientId * 1_000_000_000L + 1;
+            StringBuilder batch = new StringBuilder();
+            int done = 0;
+            while(done < requests) {
+                int k = Math.min(depth, requests - done);
+                batch.setLength(0);
+                for(int i = 0; i < k; i++) {
+                    switch((done + i) % 4) {
+                        case 0:
+                            batch.append("ADDS ").append(customer).append(' ').append(nextShipment++)
+                                    .append(" 20240115 false Kocaeli\n");
+                            break;
+                        case 1:
+                            batch.append("STATUS ").append(nextShipment - 1).append('\n');
+                            break;
+                        case 2:
+                            batch.append("LAST ").append(customer).append('\n');
+                            break;
+                        default:
+                            batch.append("PING\n");
+                    }
+                }
+                long sent = System.nanoTime();
+                send(ch, batch.toString());
+                for(int i = 0; i < k; i++) {
+                    reader.readResponse();
+                    latencies[done + i] = System.nanoTime() - sent;
+                }
+                done += k;
+            }
+        }
+        return latencies;
+    }
+
+    private static void send(SocketChannel ch, String s) throws IOException {
+        ByteBuffer b = ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+        while(b.hasRemaining()) ch.write(b);
+    }
+
+    // Yanıtları satır satır okur; "LIST n" yanıtında n satırı da tüketir
+    private static final class LineReader {
+        private final SocketChannel ch;
+        private final ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+
+        LineReader(SocketChannel ch) {
+            this.ch = ch;
+            buf.flip();
+        }
+
+        void readResponse() throws IOException {
+            String header = readLine();
+            if(header.startsWith("LIST ")) {
+                int n = Integer.parseInt(header.substring(5));
+                for(int i = 0; i < n; i++) readLine();
+            }
+        }
+
+        private String readLine() throws IOException {
+            while(true) {
+                for(int i = buf.position(); i < buf.limit(); i++) {
+                    if(buf.get(i) == '\n') {
+                        String line = new String(buf.array(), buf.position(), i - buf.position(), StandardCharsets.UTF_8);
+                        buf.position(i + 1);
+                        return line;
+                    }
+                }
+                buf.compact();
+                if(ch.read(buf) < 0) throw new IOException("Bağlantı kapandı");
+                buf.flip();
+            }
+        }
+    }
+}
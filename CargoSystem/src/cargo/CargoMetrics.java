@@ -0,0 +1,263 @@
+package cargo;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Sıcak işlemler için sayaçlar ve gecikme histogramları
+// -Dcargo.metrics=true ile açılır. ENABLED static final olduğundan kapalıyken JIT, ölçüm dallarını
+// (System.nanoTime çağrıları dahil) tamamen siler; ölçülen yollarda ek maliyet kalmaz.
+// Ölçüm kalıbı:
+//   long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+//   ...
+//   if(CargoMetrics.ENABLED) CargoMetrics.SHIPMENT_ADD.record(System.nanoTime() - t0);
+// Sonuçlar report() metin tablosu ve JMX (cargo:type=Metrics) üzerinden okunur.
+final class CargoMetrics implements CargoMetricsMXBean {
+    static final boolean ENABLED = Boolean.getBoolean("cargo.metrics");
+
+    private static final LinkedHashMap<String, LatencyHistogram> HISTOGRAMS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, LongAdder> COUNTERS = new LinkedHashMap<>();
+
+    static final LatencyHistogram CUSTOMER_FIND = histogram("customer.find");
+    static final LatencyHistogram CUSTOMER_ADD = histogram("customer.add");
+    static final LatencyHistogram SHIPMENT_ADD = histogram("shipment.add");
+    static final LatencyHistogram ROUTE_DEPTH = histogram("route.depth");
+    static final LatencyHistogram ROUTE_TRANSIT = histogram("route.transit");
+    static final LatencyHistogram SORT_DELIVERY = histogram("sort.deliveryTime");
+    static final LatencyHistogram SORT_MERGE_LIST = histogram("sort.mergeSortList");
+    static final LatencyHistogram SEARCH_BY_ID = histogram("search.binaryById");
+    static final LatencyHistogram PQ_OFFER = histogram("pq.offer");
+    static final LatencyHistogram PQ_POLL = histogram("pq.poll");
+    static final LatencyHistogram PQ_POLL_N = histogram("pq.pollN");
+
+    static final LongAdder CUSTOMER_FIND_MISS = counter("customer.find.miss");
+    static final LongAdder SORTED_ELEMENTS = counter("sort.elements");
+    static final LongAdder PQ_POLL_EMPTY = counter("pq.poll.empty");
+    static final LongAdder PQ_POLLED = counter("pq.polled");
+    static final LongAdder RENDER_CACHE_HIT = counter("render.cache.hit");
+    static final LongAdder RENDER_CACHE_MISS = counter("render.cache.miss");
+    static final LongAdder RENDER_CACHE_EVICT = counter("render.cache.evict");
+
+    private static LatencyHistogram histogram(String name) {
+        LatencyHistogram h = new LatencyHistogram();
+        HISTOGRAMS.put(name, h);
+        return h;
+    }
+
+    private static LongAdder counter(String name) {
+        LongAdder c = new LongAdder();
+        COUNTERS.put(name, c);
+        return c;
+    }
+
+    // Kuyruğu ölçüm açıksa ölçen sarmalayıcıyla sarar, kapalıysa aynen döndürür
+    static DispatchQueue wrap(DispatchQueue queue) {
+        return ENABLED ? new MeteredDispatchQueue(queue) : queue;
+    }
+
+    // Platform MBean sunucusuna cargo:type=Metrics olarak kaydeder (ölçüm kapalıysa bir şey yapmaz)
+    static void registerMBean() {
+        if(!ENABLED) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new CargoMetrics(),
+                    new ObjectName("cargo:type=Metrics"));
+        } catch(JMException e) {
+            System.out.println("Uyarı: JMX kaydı yapılamadı: " + e.getMessage());
+        }
+    }
+
+    // Tüm histogram ve sayaçların metin tablosu (gecikmeler mikrosaniye)
+    // Zaman karmaşıklığı: O(H * B), H = histogram sayısı, B = kova sayısı
+    static String report() {
+        StringBuilder sb = new StringBuilder();
+        if(!ENABLED) {
+            return sb.append("Metrikler kapalı (-Dcargo.metrics=true ile açılır)\n").toString();
+        }
+        sb.append(String.format("%-20s %10s %10s %10s %10s %10s %10s%n",
+                "işlem", "adet", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)"));
+        for(Map.Entry<String, LatencyHistogram> e : HISTOGRAMS.entrySet()) {
+            LatencyHistogram.Snapshot s = e.getValue().snapshot();
+            if(s.count == 0) continue;
+            sb.append(String.format("%-20s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", e.getKey(), s.count,
+                    s.percentile(0.50) / 1e3, s.percentile(0.90) / 1e3, s.percentile(0.99) / 1e3,
+                    s.percentile(0.999) / 1e3, s.max / 1e3));
+        }
+        for(Map.Entry<String, LongAdder> e : COUNTERS.entrySet()) {
+            sb.append(String.format("%-20s %10d%n", e.getKey(), e.getValue().sum()));
+        }
+        return sb.toString();
+    }
+
+    static void resetAll() {
+        for(LatencyHistogram h : HISTOGRAMS.values()) h.reset();
+        for(LongAdder c : COUNTERS.values()) c.reset();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public String getReport() {
+        return report();
+    }
+
+    @Override
+    public Map<String, Long> getValues() {
+        TreeMap<String, Long> values = new TreeMap<>();
+        for(Map.Entry<String, LatencyHistogram> e : HISTOGRAMS.entrySet()) {
+            LatencyHistogram.Snapshot s = e.getValue().snapshot();
+            values.put(e.getKey() + ".count", s.count);
+            values.put(e.getKey() + ".p50Nanos", s.percentile(0.50));
+            values.put(e.getKey() + ".p99Nanos", s.percentile(0.99));
+            values.put(e.getKey() + ".p999Nanos", s.percentile(0.999));
+            values.put(e.getKey() + ".maxNanos", s.max);
+        }
+        for(Map.Entry<String, LongAdder> e : COUNTERS.entrySet()) {
+            values.put(e.getKey(), e.getValue().sum());
+        }
+        return values;
+    }
+
+    @Override
+    public void reset() {
+        resetAll();
+    }
+}
+
+// HDR tarzı log-doğrusal gecikme histogramı (nanosaniye)
+// Her 2'nin kuvveti aralığı 8 alt kovaya bölünür: göreli hata en fazla %12.5, 0..2^63 tüm aralık
+// 488 kovada (4KB). Kayıt kilitsizdir ve nesne oluşturmaz.
+// record: O(1), yüzdelik: O(B)
+class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long nanos) {
+        if(nanos < 0) nanos = 0;
+        buckets.incrementAndGet(index(nanos));
+        long m;
+        while(nanos > (m = max.get()) && !max.compareAndSet(m, nanos)) {
+            // başka bir iş parçacığı daha büyük değer yazdıysa döngü biter
+        }
+    }
+
+    static int index(long v) {
+        if(v < SUB) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BITS;
+        return (shift + 1) * SUB + (int) ((v >>> shift) & (SUB - 1));
+    }
+
+    // Kovanın içerdiği en büyük değer
+    static long upperBound(int index) {
+        if(index < SUB) return index;
+        int shift = index / SUB - 1;
+        long lower = (long) (SUB + index % SUB) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    void reset() {
+        for(int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        max.set(0);
+    }
+
+    // Kayıtlarla eşzamanlı alınabilir (kovalar tek tek okunur, yaklaşık tutarlı)
+    Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return new Snapshot(counts, total, max.get());
+    }
+
+    static final class Snapshot {
+        final long[] counts;
+        final long count;
+        final long max;
+
+        Snapshot(long[] counts, long count, long max) {
+            this.counts = counts;
+            this.count = count;
+            this.max = max;
+        }
+
+        // q. yüzdelik (0 < q <= 1) için kova üst sınırı, en fazla max
+        long percentile(double q) {
+            if(count == 0) return 0;
+            long target = (long) Math.ceil(q * count);
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= target) return Math.min(upperBound(i), max);
+            }
+            return max;
+        }
+    }
+}
+
+// shipmentPQ için ölçen sarmalayıcı (sadece ölçüm açıkken kullanılır, bkz. CargoMetrics.wrap)
+class MeteredDispatchQueue implements DispatchQueue {
+    private final DispatchQueue queue;
+
+    MeteredDispatchQueue(DispatchQueue queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public boolean offer(Shipment s) {
+        long t0 = System.nanoTime();
+        boolean added = queue.offer(s);
+        CargoMetrics.PQ_OFFER.record(System.nanoTime() - t0);
+        return added;
+    }
+
+    @Override
+    public Shipment poll() {
+        long t0 = System.nanoTime();
+        Shipment s = queue.poll();
+        CargoMetrics.PQ_POLL.record(System.nanoTime() - t0);
+        if(s == null) CargoMetrics.PQ_POLL_EMPTY.increment();
+        else CargoMetrics.PQ_POLLED.increment();
+        return s;
+    }
+
+    @Override
+    public int pollN(int max, Collection<? super Shipment> out) {
+        long t0 = System.nanoTime();
+        int n = queue.pollN(max, out);
+        CargoMetrics.PQ_POLL_N.record(System.nanoTime() - t0);
+        CargoMetrics.PQ_POLLED.add(n);
+        return n;
+    }
+
+    @Override
+    public int drainLevel(int deliveryTime, Collection<? super Shipment> out) {
+        int n = queue.drainLevel(deliveryTime, out);
+        CargoMetrics.PQ_POLLED.add(n);
+        return n;
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
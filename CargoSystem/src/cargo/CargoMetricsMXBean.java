@@ -0,0 +1,16 @@
+package cargo;
+
+import java.util.Map;
+
+// JMX arayüzü (cargo:type=Metrics), jconsole / VisualVM ile okunur
+public interface CargoMetricsMXBean {
+    boolean isEnabled();
+
+    // CargoMetrics.report() ile aynı metin tablo
+    String getReport();
+
+    // "<ad>.count", "<ad>.p50Nanos", "<ad>.p99Nanos", "<ad>.p999Nanos", "<ad>.maxNanos" ve sayaçlar
+    Map<String, Long> getValues();
+
+    void reset();
+}
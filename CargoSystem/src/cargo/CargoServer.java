@@ -0,0 +1,188 @@
+package cargo;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.*;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+// Engellemeyen (NIO Selector) TCP sunucusu
+// Tek olay döngüsü iş parçacığı tüm bağlantıları yönetir ve komutları sırayla çalıştırır.
+// Paylaşılan yapılar (müşteriler, indeks, görünümler, kuyruk) kendileri iş parçacığı güvenlidir; menü,
+// içe aktarma ve günlük aynı anda erişebilir, doğruluk tek döngü iş parçacığına dayanmaz.
+// MAX_LINE'ı aşan satıra bir kez ERR yazılır ve satırın geri kalanı komut olarak çalıştırılmaz.
+// Pipelining: bir okumada gelen tüm tam satırlar çalıştırılır, yanıtları tek tampona
+// toplanıp tek write ile gönderilir. Gönderilemeyen yanıt birikirse okuma durdurulur.
+class CargoServer {
+    private static final int READ_BUFFER = 64 * 1024;
+    private static final int MAX_LINE = 16 * 1024;
+    private static final int MAX_PENDING_OUTPUT = 4 << 20;
+
+    private final int port;
+    private final CargoCommands commands;
+    private volatile boolean running = true;
+    private Selector selector;
+
+    // Bağlantı başına okuma/yazma durumu
+    private static final class Connection {
+        final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);
+        ByteBuffer out = ByteBuffer.allocate(READ_BUFFER);
+        final StringBuilder responses = new StringBuilder();
+        // MAX_LINE'ı aşan satırın kalanı atlanıyor: sonraki '\n'e kadar gelen byte'lar komut sayılmaz
+        boolean discarding;
+    }
+
+    CargoServer(int port, CargoCommands commands) {
+        this.port = port;
+        this.commands = commands;
+    }
+
+    // Olay döngüsü; stop() çağrılana kadar döner
+    void run() throws IOException {
+        selector = Selector.open();
+        try(ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(port));
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+            while(running) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while(keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if(!key.isValid()) continue;
+                        if(key.isAcceptable()) {
+                            accept(server);
+                        } else {
+                            if(key.isReadable()) read(key, encoder);
+                            if(key.isValid() && key.isWritable()) write(key);
+                        }
+                    } catch(IOException | RuntimeException e) {
+                        // Hatalı bağlantı kapatılır, döngü diğer bağlantılarla devam eder
+                        close(key);
+                    }
+                }
+            }
+        } finally {
+            for(SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            selector.close();
+        }
+    }
+
+    void stop() {
+        running = false;
+        if(selector != null) selector.wakeup();
+    }
+
+    private void accept(ServerSocketChannel server) throws IOException {
+        SocketChannel ch;
+        while((ch = server.accept()) != null) {
+            ch.configureBlocking(false);
+            ch.socket().setTcpNoDelay(true);
+            ch.register(selector, SelectionKey.OP_READ, new Connection());
+        }
+    }
+
+    private void read(SelectionKey key, CharsetEncoder encoder) throws IOException {
+        SocketChannel ch = (SocketChannel) key.channel();
+        Connection c = (Connection) key.attachment();
+        int n = ch.read(c.in);
+        if(n < 0) {
+            close(key);
+            return;
+        }
+        // Tampondaki tüm tam satırları çalıştır
+        ByteBuffer in = c.in;
+        in.flip();
+        int lineStart = 0;
+        for(int i = 0; i < in.limit(); i++) {
+            if(in.get(i) != '\n') continue;
+            if(c.discarding) {
+                // Uzun satırın sonu: ERR zaten yazıldı, sonraki satırdan devam
+                c.discarding = false;
+            } else if(i - lineStart > MAX_LINE) {
+                c.responses.append("ERR satır çok uzun\n");
+            } else {
+                int end = i > lineStart && in.get(i - 1) == '\r' ? i - 1 : i;
+                String line = new String(in.array(), lineStart, end - lineStart, StandardCharsets.UTF_8).trim();
+                if(!line.isEmpty()) {
+                    execute(line, c.responses);
+                }
+            }
+            lineStart = i + 1;
+        }
+        if(!c.discarding && in.limit() - lineStart >= MAX_LINE) {
+            // Satır sonu gelmeden sınır aşıldı: bir kez ERR, kalanı '\n'e kadar atlanır
+            c.responses.append("ERR satır çok uzun\n");
+            c.discarding = true;
+        }
+        if(c.discarding) {
+            lineStart = in.limit();
+        }
+        in.position(lineStart);
+        in.compact();
+        if(c.responses.length() > 0) {
+            queueResponses(c, encoder);
+            write(key);
+        }
+    }
+
+    // Komut hatası olay döngüsünü durdurmaz: yarım kalan yanıt geri alınır, yerine ERR yazılır
+    private void execute(String line, StringBuilder responses) {
+        int mark = responses.length();
+        try {
+            commands.execute(line, responses);
+        } catch(RuntimeException e) {
+            responses.setLength(mark);
+            responses.append("ERR ").append(errorMessage(e)).append('\n');
+        }
+    }
+
+    // Yanıt tek satır kalmalı
+    private static String errorMessage(RuntimeException e) {
+        String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return message.replace('\r', ' ').replace('\n', ' ');
+    }
+
+    // Biriken yanıtları tek seferde UTF-8'e çevirip çıkış tamponuna ekler
+    private static void queueResponses(Connection c, CharsetEncoder encoder) throws IOException {
+        ByteBuffer encoded = encoder.encode(CharBuffer.wrap(c.responses));
+        c.responses.setLength(0);
+        if(c.out.remaining() < encoded.remaining()) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(c.out.capacity() * 2, c.out.position() + encoded.remaining()));
+            c.out.flip();
+            grown.put(c.out);
+            c.out = grown;
+        }
+        c.out.put(encoded);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel ch = (SocketChannel) key.channel();
+        Connection c = (Connection) key.attachment();
+        c.out.flip();
+        ch.write(c.out);
+        c.out.compact();
+        int pending = c.out.position();
+        int ops = SelectionKey.OP_READ;
+        if(pending > 0) ops |= SelectionKey.OP_WRITE;
+        // Karşı taraf yanıtları okumuyorsa yeni istek okumayı durdur (geri basınç)
+        if(pending > MAX_PENDING_OUTPUT) ops &= ~SelectionKey.OP_READ;
+        key.interestOps(ops);
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch(IOException ignored) {
+        }
+    }
+}
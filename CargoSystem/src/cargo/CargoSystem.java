@@ -0,0 +1,456 @@
+package cargo;
+
+import java.util.*;
+
+public class CargoSystem {
+    static CustomerList customers = new CustomerList();
+    // -Dcargo.storage=offheap: gönderi kayıtları yığın dışında, indeks ve görünüm slotlar üzerinden
+    static ShipmentLookup shipmentIndex = OffHeapShipmentStore.ENABLED
+            ? new OffHeapShipmentIndex(OffHeapShipmentStore.INSTANCE) : new ShipmentIndex();
+    // Teslim edilmemiş gönderilerin canlı, teslim süresine göre sıralı görünümü
+    static UndeliveredSource undeliveredView = OffHeapShipmentStore.ENABLED
+            ? new OffHeapUndeliveredView(OffHeapShipmentStore.INSTANCE) : new UndeliveredView();
+    // Şehir/gün bazında toplama sorguları için sütunlu kopya
+    static ShipmentColumns shipmentColumns = new ShipmentColumns();
+    // Menü ve servis için hazır geçmiş / son N metinleri (değişen müşterinin kaydı düşürülür)
+    static HistoryRenderCache historyCache = new HistoryRenderCache(Long.getLong("cargo.renderCache.bytes", 32L << 20));
+    // Müşterilerin gönderi olaylarını indeks, görünümler ve önbelleğe dağıtır
+    static ShipmentListeners shipmentEvents = new ShipmentListeners(shipmentIndex, undeliveredView, shipmentColumns, historyCache);
+    // Teslim süresine göre öncelikli dağıtım kuyruğu
+    // -Dcargo.dispatchQueue=bucket -> tek iş parçacıklı kova kuyruğu, aksi halde çok iş parçacıklı kuyruk
+    // -Dcargo.metrics=true ise işlemleri ölçen sarmalayıcı ile
+    static DispatchQueue shipmentPQ = CargoMetrics.wrap("bucket".equals(System.getProperty("cargo.dispatchQueue"))
+            ? new BucketDispatchQueue()
+            : new ConcurrentDispatchQueue(Integer.getInteger("cargo.maxDeliveryTime", 64)));
+    // Istanbul merkez
+    static RouteTree routeTree = new RouteTree("Istanbul", "IST01");
+    // Kuyruğu rota dallarına göre araç yüklerine bölen toplu planlayıcı
+    // -Dcargo.vehicleCapacity (araç başına gönderi), -Dcargo.dispatchWindow (pollN penceresi),
+    // -Dcargo.dispatch.branchDepth (gruplanan dal derinliği, 1 = merkezin çocukları)
+    static DispatchPlanner dispatchPlanner = new DispatchPlanner(routeTree,
+            Integer.getInteger("cargo.vehicleCapacity", 100), Integer.getInteger("cargo.dispatchWindow", 4096),
+            Integer.getInteger("cargo.dispatch.branchDepth", 1));
+
+    static Scanner sc = new Scanner(System.in);
+    // -Dcargo.dataDir verilirse müşteri/gönderi olaylarının kalıcı günlüğü (yoksa null)
+    static CargoJournal journal;
+
+    // Doğrulamalar Validators ile yapılır (regex yok, her çağrıda Pattern derlenmez)
+    static String getValidNumericID(String prompt) {
+        System.out.print(prompt);
+        String input = sc.nextLine().trim();
+        if(!Validators.isDigits(input)) {
+            System.out.println("Hata: ID sadece rakamlardan oluşmalı!");
+            return null;
+        }
+        // Benzersiz kontrol -> eğer mevcutsa hata
+        if(customers.existsCustomerID(input)) {
+            System.out.println("Hata: Bu müşteri ID zaten kullanılıyor!");
+            return null;
+        }
+        return input;
+    }
+
+    static String getValidName(String prompt) {
+        System.out.print(prompt);
+        String input = sc.nextLine().trim();
+        if(!Validators.isValidName(input)) {
+            System.out.println("Hata: İsim sadece harflerden oluşmalı!");
+            return null;
+        }
+        return input;
+    }
+
+    // Shipment ID
+    static String getValidShipmentID(String prompt) {
+        System.out.print(prompt);
+        String input = sc.nextLine().trim();
+        if(!Validators.isDigits(input)) {
+            System.out.println("Hata: Gönderi ID sadece rakamlardan oluşmalı!");
+            return null;
+        }
+        // long'a sığması için en fazla 18 hane
+        if(input.length() > Validators.MAX_ID_DIGITS) {
+            System.out.println("Hata: Gönderi ID en fazla 18 haneli olabilir!");
+            return null;
+        }
+        return input;
+    }
+
+    // Tarih formatı kontrol -> YYYYMMDD (sadece rakam + takvim doğrulaması: ay uzunluğu, artık yıl)
+    static String getValidDate(String prompt) {
+        System.out.print(prompt);
+        String date = sc.nextLine().trim();
+        // Temel kontrol: 8 haneli rakam
+        if(date.length() != 8 || !Validators.isDigits(date)) {
+            System.out.println("Hata: Tarih formatı YYYYMMDD olmalı ve rakamlardan oluşmalı!");
+            return null;
+        }
+        // Daha ileri kontrol -> yıl=yyyy, ay=MM, gün=dd (substring/parseInt yok)
+        int year = (int) Validators.parseDigits(date, 0, 4);
+        int month = (int) Validators.parseDigits(date, 4, 6);
+        int day = (int) Validators.parseDigits(date, 6, 8);
+        // Ay 01-12 arası mı?
+        if(month<1 || month>12) {
+            System.out.println("Geçersiz ay girişi!");
+            return null;
+        }
+        // Gün, ayın gerçek uzunluğuna göre (Şubat artık yılda 29)
+        if(!Validators.isValidDate(year, month, day)) {
+            System.out.println("Geçersiz gün girişi!");
+            return null;
+        }
+        return date;
+    }
+
+    // dataDir verilmişse önceki durumu yükler ve yeni olayları günlüğe bağlar
+    static void openJournal() {
+        String dataDir = System.getProperty("cargo.dataDir");
+        if(dataDir == null) return;
+        try {
+            journal = CargoJournal.open(java.nio.file.Paths.get(dataDir), customers, shipmentIndex, shipmentEvents);
+        } catch(java.io.IOException e) {
+            System.out.println("Hata: Kayıtlar yüklenemedi: " + e.getMessage());
+            System.exit(1);
+        }
+        customers.listener = journal;
+        shipmentEvents.add(journal);
+        System.out.println("Kayıtlar yüklendi: " + customers.size + " müşteri, " + shipmentIndex.size() + " gönderi.");
+    }
+
+    // CSV dosyasını toplu içe aktarır ve özet yazar
+    static void runImport(String path) {
+        BulkImporter importer = new BulkImporter(customers, shipmentIndex, shipmentEvents, routeTree);
+        try {
+            BulkImporter.Result r = importer.importFile(java.nio.file.Paths.get(path));
+            System.out.println("İçe aktarıldı: " + r.customers + " müşteri, " + r.shipments + " gönderi, "
+                    + r.errors + " hatalı satır (" + r.millis + " ms).");
+            for(String e : r.errorSamples) {
+                System.out.println("  " + e);
+            }
+        } catch(java.io.IOException e) {
+            System.out.println("Hata: Dosya okunamadı: " + e.getMessage());
+        }
+    }
+
+    // Menü işlemlerini ağ üzerinden sunar (durdurulana kadar döner)
+    static void serve(int port) {
+        CargoCommands commands = new CargoCommands(customers, shipmentIndex, undeliveredView,
+                shipmentEvents, routeTree, shipmentPQ, historyCache, dispatchPlanner);
+        System.out.println("Kargo servisi dinleniyor: " + port);
+        try {
+            new CargoServer(port, commands).run();
+        } catch(java.io.IOException e) {
+            System.out.println("Hata: Servis başlatılamadı: " + e.getMessage());
+        } finally {
+            if(journal != null) {
+                try {
+                    journal.close();
+                } catch(java.io.IOException e) {
+                    System.out.println("Hata: Kayıtlar yazılamadı: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        CargoMetrics.registerMBean();
+        openJournal();
+        // Marmara bölgesi rotaları:
+        RouteNode bursa = new RouteNode("Bursa","BRS01");
+        RouteNode edirne = new RouteNode("Edirne","EDR01");
+        routeTree.root.addChild(bursa);
+        routeTree.root.addChild(edirne);
+
+        RouteNode kocaeli = new RouteNode("Kocaeli","KCL01");
+        bursa.addChild(kocaeli);
+
+        RouteNode tekirdag = new RouteNode("Tekirdag","TKD01");
+        edirne.addChild(tekirdag);
+
+        // java CargoSystem --import dosya.csv -> menüden önce toplu içe aktarma
+        // java CargoSystem --serve 7070      -> menü yerine ağ servisi (CargoServer)
+        int servePort = -1;
+        for(int i = 0; i + 1 < args.length; i++) {
+            if(args[i].equals("--import")) {
+                runImport(args[i + 1]);
+            } else if(args[i].equals("--serve")) {
+                servePort = Integer.parseInt(args[i + 1]);
+            }
+        }
+        if(servePort >= 0) {
+            serve(servePort);
+            return;
+        }
+
+        while(true) {
+            System.out.println("\n--- Kargo Sistemi Menu ---");
+            System.out.println("1. Yeni müşteri ekle");
+            System.out.println("2. Müşteriye kargo gönderimi ekle");
+            System.out.println("3. Kargo durumu sorgula (gönderi ID indeksi)");
+            System.out.println("4. Gönderim geçmişini görüntüle (Tüm geçmiş)");
+            System.out.println("5. Son " + Customer.LAST_N + " gönderimi görüntüle (Halka tampon)");
+            System.out.println("6. Teslim edilmemiş kargoları teslim süresine göre sıralı listele (Canlı görünüm)");
+            System.out.println("7. Teslimat rotalarını göster (Ağaç)");
+            System.out.println("8. Kargoyu dağıtım kuyruğuna ekle (araçlara bölme menü 14 ile)");
+            System.out.println("9. Kargoyu teslim edildi olarak işaretle");
+            System.out.println("10. Tarih aralığındaki gönderileri görüntüle");
+            System.out.println("11. Dosyadan toplu içe aktar (CSV)");
+            System.out.println("12. Performans metrikleri");
+            System.out.println("13. Şehir bazında gönderi özeti (sütunlu depo)");
+            System.out.println("14. Toplu dağıtım planı (kuyruğu rota dallarına göre araçlara böl)");
+            System.out.println("0. Çıkış");
+            System.out.print("Seçim: ");
+            int choice = -1;
+            try {
+                choice = Integer.parseInt(sc.nextLine());
+            } catch(Exception e) { }
+
+            if(choice == 0) {
+                System.out.println("Program kapatılıyor...");
+                if(journal != null) {
+                    try {
+                        journal.close();
+                    } catch(java.io.IOException e) {
+                        System.out.println("Hata: Kayıtlar yazılamadı: " + e.getMessage());
+                    }
+                }
+                break;
+            }
+
+            switch(choice) {
+                case 1: {
+                    String cid = getValidNumericID("Müşteri ID (sadece rakam): ");
+                    if(cid == null) break; // hatalı veya tekrar menüye dön
+                    String cname = getValidName("Müşteri Ad Soyad (sadece harf): ");
+                    if(cname == null) break;
+                    Customer newC = new Customer(cid, cname, shipmentEvents);
+                    if(customers.addCustomer(newC)) {
+                        System.out.println("Müşteri eklendi.");
+                    } else {
+                        System.out.println("Hata: Bu müşteri ID zaten kullanılıyor!");
+                    }
+                    break;
+                }
+                case 2: {
+                    // Müşteriye kargo ekle
+                    System.out.print("Müşteri ID: ");
+                    String custID = sc.nextLine().trim();
+                    Customer cust = customers.findCustomerByID(custID);
+                    if(cust == null) {
+                        System.out.println("Müşteri bulunamadı!");
+                        break;
+                    }
+                    String sid = getValidShipmentID("Gönderi ID: ");
+                    if(sid == null) break;
+
+                    String date = getValidDate("Tarih (YYYYMMDD): ");
+                    if(date == null) break;
+
+                    System.out.print("Teslim edildi mi? (true/false): ");
+                    boolean delivered = Boolean.parseBoolean(sc.nextLine().trim());
+
+                    // Şehir bilgisi
+                    System.out.print("Şehir Adı (Marmara bölgesi için): ");
+                    String cityName = sc.nextLine().trim();
+                    // Rota ağacında var mı?
+                    if(!routeTree.cityExists(cityName)) {
+                        System.out.println("Hata: Bu şehir rota ağacında bulunamadı!");
+                        break;
+                    }
+                    // Merkezden en kısa yol süresi => Teslimat süresi
+                    // (varsayılan 1 gün/kenar ile ağaç derinliğine eşittir)
+                    int dtime = routeTree.transitTime(cityName);
+
+                    // Kanonik adla: "bursa" ve "Bursa" aynı şehir sıra numarasını alır
+                    Shipment sh = new Shipment(sid, date, delivered, dtime, routeTree.findCity(cityName).cityName);
+                    cust.addShipmentSorted(sh);
+                    System.out.println("Kargo eklendi. Teslim süresi (otomatik): " + dtime + " gün.");
+                    break;
+                }
+                case 3: {
+                    String searchID = getValidShipmentID("Aranacak Gönderi ID (sadece rakam): ");
+                    if(searchID == null) break;
+
+                    // ID indeksi -> O(1), toplama/sıralama yok
+                    Shipment found = shipmentIndex.findShipment(Long.parseLong(searchID));
+                    if(found != null) {
+                        System.out.println("Kargo bulundu: "
+                                + found.shipmentID
+                                + (found.delivered ? " (Teslim Edildi)" : " (Teslim Edilmedi)")
+                                + ", Şehir: "
+                                + found.destinationCity());
+                    } else {
+                        System.out.println("Kargo bulunamadı");
+                    }
+                    break;
+                }
+                case 4: {
+                    System.out.print("Müşteri ID: ");
+                    String cid4 = sc.nextLine().trim();
+                    Customer c4 = customers.findCustomerByID(cid4);
+                    if(c4==null) {
+                        System.out.println("Müşteri yok!");
+                        break;
+                    }
+                    historyCache.print(c4, HistoryRenderCache.PRINT_ALL, Customer::renderAllShipments);
+                    break;
+                }
+                case 5: {
+                    System.out.print("Müşteri ID: ");
+                    String cid5 = sc.nextLine().trim();
+                    Customer c5 = customers.findCustomerByID(cid5);
+                    if(c5==null) {
+                        System.out.println("Müşteri yok!");
+                        break;
+                    }
+                    historyCache.print(c5, HistoryRenderCache.PRINT_LAST, Customer::renderLastShipments);
+                    break;
+                }
+                case 6: {
+                    // Canlı görünüm -> O(k), tarama ve sıralama yok
+                    System.out.println("Teslim edilmemiş kargolar (Teslim süresine göre sıralı):");
+                    undeliveredView.forEach(s ->
+                        System.out.println("ID: " + s.shipmentID
+                                + " Süre: " + s.deliveryTime
+                                + " Tarih: " + s.dateText()
+                                + " Şehir: " + s.destinationCity()));
+                    break;
+                }
+                case 7:
+                    System.out.println("Rota Ağacı (İstanbul merkez):");
+                    routeTree.printTree();
+                    break;
+                case 8: {
+                    String pqid = getValidShipmentID("Gönderi ID (sadece rakam): ");
+                    if(pqid==null) break;
+
+                    // Ağaçtaki herhangi bir şehir diyelim
+                    // Örnek: Kulanıcıdan city alıp depth hesaplardık.
+                    // Burada basitçe city = 'Bursa' vs. diyebiliriz.
+
+                    System.out.print("Şehir Adı: ");
+                    String cityName = sc.nextLine().trim();
+                    if(!routeTree.cityExists(cityName)) {
+                        System.out.println("Hata: Bu şehir rota ağacında bulunamadı!");
+                        break;
+                    }
+                    int depth = routeTree.transitTime(cityName);
+
+                    // delivered = false, date basit sabit
+                    Shipment pqShip = new Shipment(pqid, "20240101", false, depth, routeTree.findCity(cityName).cityName);
+                    // Kuyruğa ekleme -> O(1); kuyruk menü 14'te toplu planlanarak boşaltılır
+                    shipmentPQ.offer(pqShip);
+                    System.out.println("Kargo dağıtım kuyruğuna eklendi (Şehir: " + cityName + ", Süre: " + depth
+                            + "). Kuyrukta " + shipmentPQ.size() + " kargo var.");
+                    break;
+                }
+                case 9: {
+                    String did = getValidShipmentID("Teslim edilen Gönderi ID: ");
+                    if(did == null) break;
+                    long didValue = Long.parseLong(did);
+                    ShipmentLookup.Entry de = shipmentIndex.entry(didValue);
+                    if(de == null) {
+                        System.out.println("Kargo bulunamadı");
+                        break;
+                    }
+                    if(de.shipment.delivered) {
+                        System.out.println("Kargo zaten teslim edilmiş.");
+                        break;
+                    }
+                    de.owner.markDelivered(de.shipment, true);
+                    System.out.println("Kargo teslim edildi olarak işaretlendi.");
+                    break;
+                }
+                case 10: {
+                    System.out.print("Müşteri ID: ");
+                    String cid10 = sc.nextLine().trim();
+                    Customer c10 = customers.findCustomerByID(cid10);
+                    if(c10==null) {
+                        System.out.println("Müşteri yok!");
+                        break;
+                    }
+                    String from = getValidDate("Başlangıç Tarihi (YYYYMMDD): ");
+                    if(from == null) break;
+                    String to = getValidDate("Bitiş Tarihi (YYYYMMDD): ");
+                    if(to == null) break;
+                    c10.printShipmentsBetween(Integer.parseInt(from), Integer.parseInt(to));
+                    break;
+                }
+                case 11: {
+                    System.out.print("Dosya yolu: ");
+                    runImport(sc.nextLine().trim());
+                    break;
+                }
+                case 12: {
+                    System.out.print(CargoMetrics.report());
+                    break;
+                }
+                case 13: {
+                    long t0 = System.nanoTime();
+                    long[] undelivered = shipmentColumns.undeliveredByCity();
+                    double[] avgTime = shipmentColumns.averageDeliveryTimeByCity();
+                    long micros = (System.nanoTime() - t0) / 1000;
+                    if(shipmentColumns.size() == 0) {
+                        System.out.println("Kayıtlı gönderi yok!");
+                        break;
+                    }
+                    for(int city = 0; city < avgTime.length; city++) {
+                        if(Double.isNaN(avgTime[city])) continue;
+                        System.out.printf("Şehir: %s, Teslim edilmemiş: %d, Ortalama süre: %.2f gün%n",
+                                CityTable.name(city), undelivered[city], avgTime[city]);
+                    }
+                    System.out.println(shipmentColumns.size() + " gönderi " + micros + " us içinde tarandı.");
+                    break;
+                }
+                case 14: {
+                    System.out.print("Teslim edilmemiş kargolar da kuyruğa eklensin mi? (true/false): ");
+                    DispatchQueue source = shipmentPQ;
+                    if(Boolean.parseBoolean(sc.nextLine().trim())) {
+                        // Kuyruktakiler ve teslim edilmemişler ayrı bir kuyrukta birleştirilir; kuyrukta zaten
+                        // olan gönderi (aynı ID) ikinci kez eklenmez, tekrar seçimde de çoğalmaz
+                        source = new BucketDispatchQueue();
+                        HashSet<Long> queued = new HashSet<>();
+                        ArrayList<Shipment> batch = new ArrayList<>();
+                        while(shipmentPQ.pollN(4096, batch) > 0) {
+                            for(Shipment s : batch) {
+                                queued.add(s.shipmentID);
+                                source.offer(s);
+                            }
+                            batch.clear();
+                        }
+                        // Yığın dışı modda iterator her gönderi için ayrı nesne verir (forEach tek nesneyi tekrar kullanır)
+                        for(Iterator<Shipment> it = undeliveredView.iterator(); it.hasNext(); ) {
+                            Shipment s = it.next();
+                            if(queued.add(s.shipmentID)) source.offer(s);
+                        }
+                    }
+                    if(source.isEmpty()) {
+                        System.out.println("Dağıtım kuyruğu boş!");
+                        break;
+                    }
+                    // Dal başına araç ve gönderi sayısı; ilk 20 araç ayrıca listelenir
+                    TreeMap<String, int[]> perBranch = new TreeMap<>();
+                    long t0 = System.nanoTime();
+                    int planned = dispatchPlanner.plan(source, Integer.MAX_VALUE, load -> {
+                        int[] totals = perBranch.computeIfAbsent(load.branch.cityName, k -> new int[2]);
+                        totals[0]++;
+                        totals[1] += load.shipments.length;
+                        if(load.vehicle <= 20) {
+                            System.out.println("Araç " + load.vehicle + " [" + load.branch.cityName + " dalı]: "
+                                    + load.shipments.length + " kargo, en uzak durak " + load.maxDeliveryTime + " gün");
+                        }
+                    });
+                    long micros = (System.nanoTime() - t0) / 1000;
+                    for(Map.Entry<String, int[]> e : perBranch.entrySet()) {
+                        System.out.println("Dal: " + e.getKey() + ", Araç: " + e.getValue()[0] + ", Kargo: " + e.getValue()[1]);
+                    }
+                    System.out.println(planned + " kargo " + micros + " us içinde planlandı.");
+                    break;
+                }
+                default:
+                    System.out.println("Geçersiz seçim!");
+            }
+        }
+    }
+}
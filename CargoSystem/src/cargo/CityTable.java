@@ -0,0 +1,52 @@
+package cargo;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Şehir adlarını bir kez saklayıp her gönderide sadece sıra numarası tutmak için tablo
+// Anahtar büyük/küçük harf ve baştaki/sondaki boşluktan bağımsızdır ("bursa" ile "Bursa" aynı sıra no);
+// name() ilk görülen yazımı verir. Rota ağacındaki şehirler RouteTree.cityOrdinal ile kanonik adla eklenir.
+// Bilinen şehir ve name() kilitsizdir; yeni şehir eklemesi sınıf kilidiyle sıralanır.
+// Ad dizisi yeni şehirden sonra volatile olarak yeniden yayınlanır, ordinals'tan sıra no
+// alan okuyucu adı da görür.
+// intern: O(1) ortalama, name: O(1)
+// Uzay karmaşıklığı: O(c), c = farklı şehir adı sayısı
+class CityTable {
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+    private static final ConcurrentHashMap<String, Integer> ordinals = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[16];
+    private static volatile int count;
+
+    static int intern(String cityName) {
+        String key = key(cityName);
+        Integer ordinal = ordinals.get(key);
+        if(ordinal != null) return ordinal;
+        synchronized(CityTable.class) {
+            ordinal = ordinals.get(key);
+            if(ordinal != null) return ordinal;
+            int next = count;
+            String[] arr = names;
+            if(next == arr.length) arr = Arrays.copyOf(arr, next * 2);
+            arr[next] = cityName.trim();
+            names = arr;
+            // Sıra no başkalarına görünmeden önce size() onu kapsamalı
+            count = next + 1;
+            ordinals.put(key, next);
+            return next;
+        }
+    }
+
+    // Tablo anahtarı: kırpılmış, Türkçe kurallarla küçük harf
+    static String key(String cityName) {
+        return cityName.trim().toLowerCase(TURKISH);
+    }
+
+    static String name(int ordinal) {
+        return names[ordinal];
+    }
+
+    // Şimdiye kadar verilen sıra numarası sayısı (sıra numaraları 0..size-1)
+    static int size() {
+        return count;
+    }
+}
@@ -0,0 +1,130 @@
+package cargo;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+// Çok iş parçacıklı dağıtım kuyruğu: her teslim süresi için ayrı kilitsiz FIFO kova
+// deliveryTime küçük sınırlı bir tamsayı olduğundan (ağaç derinliği / gün) kovalar dizide tutulur;
+// maxDeliveryTime üstü nadir değerler taşma tablosuna gider: seviye -> ayrı FIFO kova
+// (ConcurrentSkipListMap, seviye sırasıyla gezilir). Taşma kovaları boşalınca silinmez (silme, aynı anda
+// eklenen gönderiyi kaybettirebilirdi); sayıları farklı taşma seviyesi sayısıyla sınırlıdır.
+// Üreticiler ve tüketiciler farklı kovalara dağıldığı için tek kilit üzerinde yarışmazlar.
+// offer: O(1) (taşma: O(log L), L = taşma seviyesi sayısı), poll: O(B + L) boş kova kontrolü (B = kova sayısı, sabit)
+// Eşzamanlı işlemler altında sıra "yaklaşık" önceliklidir: poll sırasında daha düşük kovaya
+// yeni eklenen bir gönderi bir sonraki poll'da alınır.
+// Uzay karmaşıklığı: O(n + B + L)
+class ConcurrentDispatchQueue implements DispatchQueue {
+    private final ConcurrentLinkedQueue<Shipment>[] buckets;
+    private final ConcurrentSkipListMap<Integer, ConcurrentLinkedQueue<Shipment>> overflow = new ConcurrentSkipListMap<>();
+    private final LongAdder count = new LongAdder();
+
+    public ConcurrentDispatchQueue(int maxDeliveryTime) {
+        if(maxDeliveryTime < 0) {
+            throw new IllegalArgumentException("maxDeliveryTime negatif olamaz: " + maxDeliveryTime);
+        }
+        buckets = newBuckets(maxDeliveryTime + 1);
+        for(int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    // Jenerik dizi oluşturulamadığı için tek denetimsiz dönüşüm burada
+    @SuppressWarnings("unchecked")
+    private static ConcurrentLinkedQueue<Shipment>[] newBuckets(int n) {
+        return (ConcurrentLinkedQueue<Shipment>[]) new ConcurrentLinkedQueue<?>[n];
+    }
+
+    @Override
+    public boolean offer(Shipment s) {
+        if(s.deliveryTime < 0) {
+            throw new IllegalArgumentException("deliveryTime negatif olamaz: " + s.deliveryTime);
+        }
+        if(s.deliveryTime < buckets.length) {
+            buckets[s.deliveryTime].offer(s);
+        } else {
+            overflow.computeIfAbsent(s.deliveryTime, k -> new ConcurrentLinkedQueue<>()).offer(s);
+        }
+        count.increment();
+        return true;
+    }
+
+    @Override
+    public Shipment poll() {
+        for(ConcurrentLinkedQueue<Shipment> bucket : buckets) {
+            Shipment s = bucket.poll();
+            if(s != null) {
+                count.decrement();
+                return s;
+            }
+        }
+        for(ConcurrentLinkedQueue<Shipment> bucket : overflow.values()) {
+            Shipment s = bucket.poll();
+            if(s != null) {
+                count.decrement();
+                return s;
+            }
+        }
+        return null;
+    }
+
+    // Kova kova boşaltır; her kova için tek tarama, eleman başına O(1)
+    @Override
+    public int pollN(int max, Collection<? super Shipment> out) {
+        int taken = 0;
+        for(int b = 0; b < buckets.length && taken < max; b++) {
+            ConcurrentLinkedQueue<Shipment> bucket = buckets[b];
+            Shipment s;
+            while(taken < max && (s = bucket.poll()) != null) {
+                out.add(s);
+                taken++;
+            }
+        }
+        if(taken < max) {
+            for(ConcurrentLinkedQueue<Shipment> bucket : overflow.values()) {
+                Shipment s;
+                while(taken < max && (s = bucket.poll()) != null) {
+                    out.add(s);
+                    taken++;
+                }
+                if(taken == max) break;
+            }
+        }
+        if(taken > 0) count.add(-taken);
+        return taken;
+    }
+
+    @Override
+    public int drainLevel(int deliveryTime, Collection<? super Shipment> out) {
+        if(deliveryTime < 0) return 0;
+        // Taşma seviyesi de kendi kovasından boşaltılır: başka seviyedeki gönderiye hiç dokunulmaz
+        ConcurrentLinkedQueue<Shipment> bucket = deliveryTime < buckets.length
+                ? buckets[deliveryTime] : overflow.get(deliveryTime);
+        if(bucket == null) return 0;
+        int taken = 0;
+        Shipment s;
+        while((s = bucket.poll()) != null) {
+            out.add(s);
+            taken++;
+        }
+        if(taken > 0) count.add(-taken);
+        return taken;
+    }
+
+    // Eşzamanlı güncellemeler sırasında yaklaşık değerdir
+    @Override
+    public int size() {
+        return (int) Math.max(0, count.sum());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for(ConcurrentLinkedQueue<Shipment> bucket : buckets) {
+            if(!bucket.isEmpty()) return false;
+        }
+        for(ConcurrentLinkedQueue<Shipment> bucket : overflow.values()) {
+            if(!bucket.isEmpty()) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,363 @@
+package cargo;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+
+// Müşteri sınıfı
+// LinkedList ve halka tampon kullanımı
+// Eşzamanlılık: her müşterinin kendi kilidi vardır, farklı müşteriler tamamen paralel güncellenir.
+// Yazanlar (ekleme, teslim) kilidi alır ve dinleyicilere kilit içinde bildirir; böylece bir müşterinin
+// olayları günlüğe/indekse bellekteki sırayla ulaşır. Geçmiş okuyucuları kilit almaz (ShipmentHistory),
+// son N okuyucuları iyimser okuma yapar; hiçbir okuyucu yazanı bekletmez.
+// Kilit sırası: müşteri kilidi -> dinleyicilerin kendi kilitleri (tersi yapılmaz).
+// Yığın dışı modda (-Dcargo.storage=offheap) geçmiş ve son N slot numaralarıyla tutulur (OffHeapHistory);
+// metotlar aynı kalır, okuyuculara verilen Shipment nesneleri slotlardan doldurulur.
+class Customer {
+    // Saklanacak son gönderi sayısı (N), dağıtıma göre -Dcargo.lastN=20 ile ayarlanır
+    static final int LAST_N = Integer.getInteger("cargo.lastN", 5);
+    // println ile aynı satır sonu (render metinleri için)
+    private static final String NL = System.lineSeparator();
+    // Yığın içi modda Shipment.arrival sayacı (yığın dışı modda slot numarası aynı işi görür)
+    // Ekleme müşteri kilidi içinde sayı alır; aynı müşterinin gönderileri kendi aralarında kesin sıralıdır
+    private static final AtomicInteger ARRIVALS = new AtomicInteger();
+
+    final String customerID;
+    final String name;
+    // Ekleme/teslim olaylarının bildirildiği dinleyici (yoksa null)
+    final ShipmentListener listener;
+    // Müşterinin gönderim geçmişi (tarih sıralı skip list, history.head ile linked list olarak gezilir)
+    // Yığın dışı modda null
+    final ShipmentHistory history;
+    // Müşterinin son N gönderimi için halka tampon (yığın dışı modda null)
+    final ShipmentRing lastShipments;
+    // Yığın dışı modda geçmiş + son N slotları, aksi halde null
+    final OffHeapHistory slots;
+    // OffHeapShipmentStore'daki sahip sıra numarası (ilk eklemede atanır, kilitle korunur)
+    private int storeOrdinal = -1;
+    // Yazma kilidi + son N için iyimser okuma damgası
+    private final StampedLock lock = new StampedLock();
+    // Her ekleme/teslim değişikliğinde artan sürüm (kilitle korunur, dinleyiciler kilit içinden okur);
+    // günlük tekrar oynatmada anlık görüntüye zaten dahil olan olayları ayırt etmek için kullanılır
+    long version;
+
+    public Customer(String id, String name) {
+        this(id, name, null);
+    }
+
+    public Customer(String id, String name, ShipmentListener listener) {
+        this.customerID = id;
+        this.name = name;
+        this.listener = listener;
+        if(OffHeapShipmentStore.ENABLED) {
+            this.history = null;
+            this.lastShipments = null;
+            this.slots = new OffHeapHistory(OffHeapShipmentStore.INSTANCE, LAST_N);
+        } else {
+            this.history = new ShipmentHistory();
+            this.lastShipments = new ShipmentRing(LAST_N);
+            this.slots = null;
+        }
+    }
+
+    // Gönderiyi tarih sırasına göre geçmişe ekler
+    // Zaman karmaşıklığı: O(log n) beklenen (n = gönderi sayısı), skip list araması
+    // Uzay karmaşıklığı: O(1) ek alan (yeni node sabit alan tutar)
+    public void addShipmentSorted(Shipment s) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        long stamp = lock.writeLock();
+        try {
+            if(slots != null) {
+                // Kayıt yığın dışına yazılır, geçmiş sadece slot numarasını tutar
+                slots.insert(OffHeapShipmentStore.INSTANCE.add(s, storeOrdinal()));
+            } else {
+                s.arrival = ARRIVALS.getAndIncrement();
+                history.insert(s);
+
+                // Halka tampona push (son gönderileri takip), dolu ise en eskinin üzerine yazar
+                // Zaman karmaşıklığı: O(1) push
+                // Uzay karmaşıklığı: O(1)
+                lastShipments.push(s);
+            }
+
+            version++;
+            if(listener != null) {
+                listener.onShipmentAdded(this, s);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        // Kilit bekleme ve dinleyiciler (indeks, görünüm, günlük) dahil
+        if(CargoMetrics.ENABLED) CargoMetrics.SHIPMENT_ADD.record(System.nanoTime() - t0);
+    }
+
+    // Tarihe göre (eşitlerde sonra gelen önce) sıralama; Arrays.sort nesnelerde kararlıdır
+    private static final Comparator<Shipment> BY_DATE = (a, b) -> Integer.compare(a.date, b.date);
+
+    // Geliş sırasındaki arrival[from..to) gönderilerini geçmişe ve son N tamponuna toplu ekler
+    // addShipmentSorted'ı sırayla çağırmakla aynı sonucu verir; dinleyiciye geliş sırasıyla,
+    // kurulumdan sonra ve aynı kilit içinde bildirir. Farklı müşteriler için paralel çağrılabilir.
+    // Zaman karmaşıklığı: O(k log k) sıralama + O(k) kurulum (geçmiş boşsa)
+    void loadShipmentsBulk(Shipment[] arrival, int from, int to) {
+        int k = to - from;
+        if(k <= 0) return;
+        long stamp = lock.writeLock();
+        try {
+            loadLocked(arrival, from, to);
+            for(int i = from; i < to; i++) {
+                version++;
+                if(listener != null) {
+                    listener.onShipmentAdded(this, arrival[i]);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void loadLocked(Shipment[] arrival, int from, int to) {
+        int k = to - from;
+        if(slots != null) {
+            // Slotlar geliş sırasıyla ayrılır (slot numarası = geliş sırası), tarih sırasına dizilip
+            // mevcut geçmişle tek geçişte birleştirilir
+            OffHeapShipmentStore store = OffHeapShipmentStore.INSTANCE;
+            int owner = storeOrdinal();
+            for(int i = from; i < to; i++) {
+                store.add(arrival[i], owner);
+            }
+            Shipment[] sorted = sortedByDate(arrival, from, to);
+            int[] sortedSlots = new int[k];
+            for(int i = 0; i < k; i++) {
+                sortedSlots[i] = sorted[i].arrival;
+            }
+            slots.merge(sortedSlots, k);
+            for(int i = Math.max(from, to - LAST_N); i < to; i++) {
+                slots.pushRecent(arrival[i].arrival);
+            }
+            return;
+        }
+        int base = ARRIVALS.getAndAdd(k);
+        for(int i = from; i < to; i++) {
+            arrival[i].arrival = base + (i - from);
+        }
+        if(history.size == 0) {
+            Shipment[] sorted = sortedByDate(arrival, from, to);
+            history.bulkLoad(sorted, 0, k);
+        } else {
+            for(int i = from; i < to; i++) {
+                history.insert(arrival[i]);
+            }
+        }
+        for(int i = Math.max(from, to - lastShipments.capacity()); i < to; i++) {
+            lastShipments.push(arrival[i]);
+        }
+    }
+
+    // Ters geliş sırası + kararlı sıralama: aynı tarihliler arasında yeni olan önde kalır
+    private static Shipment[] sortedByDate(Shipment[] arrival, int from, int to) {
+        int k = to - from;
+        Shipment[] sorted = new Shipment[k];
+        for(int i = 0; i < k; i++) {
+            sorted[i] = arrival[to - 1 - i];
+        }
+        Arrays.sort(sorted, BY_DATE);
+        return sorted;
+    }
+
+    // Yazma kilidi içinden çağrılır
+    private int storeOrdinal() {
+        if(storeOrdinal < 0) {
+            storeOrdinal = OffHeapShipmentStore.INSTANCE.register(this);
+        }
+        return storeOrdinal;
+    }
+
+    // Gönderinin teslim durumunu değiştirir, dinleyiciye bildirir
+    // Yığın dışı modda s, indeksten alınmış (slotu belli) bir gönderi olmalı; slottaki güncel durum esas alınır
+    // Zaman karmaşıklığı: O(1)
+    public void markDelivered(Shipment s, boolean delivered) {
+        if(slots != null && s.arrival < 0) {
+            throw new IllegalArgumentException("Gönderi yığın dışı depoda değil: " + s.shipmentID);
+        }
+        long stamp = lock.writeLock();
+        try {
+            if(slots != null) OffHeapShipmentStore.INSTANCE.load(s.arrival, s);
+            if(s.delivered == delivered) return;
+            if(slots != null) OffHeapShipmentStore.INSTANCE.setDelivered(s.arrival, delivered);
+            s.delivered = delivered;
+            version++;
+            if(listener != null) {
+                listener.onDeliveryChanged(this, s);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Son N gönderiyi en yeniden en eskiye out'a kopyalar (out.length >= LAST_N), sayısını döndürür
+    // İyimser okuma: yazan yoksa kilit alınmaz; kopya sırasında yazma olduysa okuma kilidiyle tekrarlanır
+    // Zaman karmaşıklığı: O(N)
+    public int lastShipments(Shipment[] out) {
+        if(slots != null) return lastSlots(out);
+        long stamp = lock.tryOptimisticRead();
+        int n = lastShipments.copyTo(out);
+        if(lock.validate(stamp)) return n;
+        stamp = lock.readLock();
+        try {
+            return lastShipments.copyTo(out);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Yığın dışı mod: slot numaraları aynı iyimser okumayla kopyalanır, nesneler kilit dışında doldurulur
+    private int lastSlots(Shipment[] out) {
+        int[] recent = new int[LAST_N];
+        long stamp = lock.tryOptimisticRead();
+        int n = slots.copyRecent(recent);
+        if(!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                n = slots.copyRecent(recent);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        for(int i = 0; i < n; i++) {
+            out[i] = OffHeapShipmentStore.INSTANCE.materialize(recent[i]);
+        }
+        return n;
+    }
+
+    // Anlık görüntü için: geçmişin tutarlı bir kopyasını out'a verir ve o anki sürümü döndürür
+    // Yığın içi modda (gönderi, -1), yığın dışı modda (null, slot) verilir; slotlar için nesne oluşturulmaz
+    // Sadece bu müşterinin yazanlarını kopya süresince bekletir
+    // Zaman karmaşıklığı: O(n)
+    long snapshotHistory(ObjIntConsumer<Shipment> out) {
+        long stamp = lock.readLock();
+        try {
+            if(slots != null) {
+                slots.forEach(Integer.MIN_VALUE, Integer.MAX_VALUE, slot -> out.accept(null, slot));
+            } else {
+                for(ShipmentNode n = history.head; n != null; n = n.next) {
+                    out.accept(n.shipment, -1);
+                }
+            }
+            return version;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Tekrar oynatmada anlık görüntüdeki/günlükteki sürümü geri yükler
+    void restoreVersion(long v) {
+        long stamp = lock.writeLock();
+        version = v;
+        lock.unlockWrite(stamp);
+    }
+
+    // Son N gönderiyi görüntüleyecek (en yeniden en eskiye)
+    // Zaman karmaşıklığı: O(N), N sabit => O(1)
+    public void printLastShipments() {
+        System.out.print(renderLastShipments());
+    }
+
+    // printLastShipments çıktısı; HistoryRenderCache bu metni saklar
+    String renderLastShipments() {
+        Shipment[] last = new Shipment[LAST_N];
+        int n = lastShipments(last);
+        if(n == 0) {
+            return "Gönderim geçmişi boş!" + NL;
+        }
+        StringBuilder sb = new StringBuilder(64 * (n + 1));
+        sb.append("Son Gönderiler (en yeni en üstte):").append(NL);
+        for (int i = 0; i < n; i++) {
+            Shipment sh = last[i];
+            sb.append("ID: ").append(sh.shipmentID)
+                    .append(", Tarih: ").append(sh.dateText())
+                    .append(", Teslim: ").append(sh.delivered?"Evet":"Hayir")
+                    .append(", Şehir: ").append(sh.destinationCity()).append(NL);
+        }
+        return sb.toString();
+    }
+
+    // Tüm gönderim geçmişini yazdır
+    // Zaman karmaşıklığı: O(n) (n = gönderi sayısı)
+    public void printAllShipments() {
+        System.out.print(renderAllShipments());
+    }
+
+    // printAllShipments çıktısı (geçmiş boşsa boş metin); HistoryRenderCache bu metni saklar
+    // Zaman karmaşıklığı: O(n)
+    String renderAllShipments() {
+        StringBuilder sb = new StringBuilder();
+        forEachShipment(sh -> appendShipment(sh, sb));
+        return sb.toString();
+    }
+
+    // Geçmişi tarih sırasıyla kilitsiz gezer
+    // Yığın dışı modda action'a tek bir nesne tekrar doldurularak verilir (flyweight), saklanmamalı
+    // Zaman karmaşıklığı: O(n)
+    public void forEachShipment(Consumer<Shipment> action) {
+        if(slots != null) {
+            forEachSlot(Integer.MIN_VALUE, Integer.MAX_VALUE, action);
+            return;
+        }
+        for(ShipmentNode n = history.head; n != null; n = n.next) {
+            action.accept(n.shipment);
+        }
+    }
+
+    // Geçmişteki gönderi sayısı
+    public int shipmentCount() {
+        return slots != null ? slots.size() : history.size;
+    }
+
+    // Yığın dışı mod: aralıktaki slotları tek flyweight nesneyle ziyaret eder, ziyaret edilen sayıyı döndürür
+    private int forEachSlot(int fromDate, int toDate, Consumer<Shipment> action) {
+        OffHeapShipmentStore store = OffHeapShipmentStore.INSTANCE;
+        Shipment cursor = new Shipment(0L, 0, false, 0, 0);
+        int[] count = new int[1];
+        slots.forEach(fromDate, toDate, slot -> {
+            action.accept(store.load(slot, cursor));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    // İki tarih arasındaki (uçlar dahil) gönderileri yazdır
+    // Zaman karmaşıklığı: O(log n + k), k = aralıktaki gönderi sayısı
+    public void printShipmentsBetween(int fromDate, int toDate) {
+        if(slots != null) {
+            if(forEachSlot(fromDate, toDate, Customer::printShipment) == 0) {
+                System.out.println("Bu tarih aralığında gönderi yok!");
+            }
+            return;
+        }
+        ShipmentNode current = history.ceiling(fromDate);
+        if(current == null || current.shipment.date > toDate) {
+            System.out.println("Bu tarih aralığında gönderi yok!");
+            return;
+        }
+        while(current != null && current.shipment.date <= toDate) {
+            printShipment(current.shipment);
+            current = current.next;
+        }
+    }
+
+    private static void printShipment(Shipment sh) {
+        StringBuilder sb = new StringBuilder(96);
+        appendShipment(sh, sb);
+        System.out.print(sb);
+    }
+
+    private static void appendShipment(Shipment sh, StringBuilder sb) {
+        sb.append("ID: ").append(sh.shipmentID)
+                .append(", Tarih: ").append(sh.dateText())
+                .append(", Teslim: ").append(sh.delivered?"Evet":"Hayir")
+                .append(", Süre(gün): ").append(sh.deliveryTime)
+                .append(", Şehir: ").append(sh.destinationCity()).append(NL);
+    }
+}
@@ -0,0 +1,125 @@
+package cargo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Eşzamanlılık: ekleme liste kilidiyle sıralanır; ID araması ve head'den gezinme kilitsizdir.
+// Hash tablosu bir bütün (Table) olarak volatile yayınlanır, slotlara release/acquire ile yazılıp
+// okunur; büyütme yeni tabloyu tamamen kurup tek yazımla değiştirir, okuyucu hiç beklemez.
+class CustomerList {
+    volatile CustomerNode head;
+    CustomerNode tail;
+    volatile int size;
+    // Müşteri eklemeleri bildirilen dinleyici (yoksa null)
+    CustomerListener listener;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(CustomerNode[].class);
+
+    // Müşteri ID -> düğüm için open addressing (linear probing) hash indeksi
+    // Tablo boyu hep 2'nin kuvveti, doluluk oranı 0.5'i geçince iki katına çıkar
+    // Uzay karmaşıklığı: O(n)
+    private static final class Table {
+        final CustomerNode[] slots;
+        final int[] hashes;
+
+        Table(int capacity) {
+            slots = new CustomerNode[capacity];
+            hashes = new int[capacity];
+        }
+    }
+
+    private volatile Table table = new Table(16);
+
+    // Yeni müşteri ekleme; ID zaten varsa eklemez ve false döner
+    // Dinleyiciye müşteri görünür olmadan önce bildirilir: günlükte müşteri kaydı her zaman
+    // o müşterinin gönderi kayıtlarından önce yer alır.
+    // Zaman karmaşıklığı: O(1) amortize (tail pointer ile sona ekleme + hash indekse yazma)
+    // Uzay karmaşıklığı: O(1)
+    public synchronized boolean addCustomer(Customer c) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        int h = hash(c.customerID);
+        if(findNode(c.customerID) != null) {
+            return false;
+        }
+        if(listener != null) {
+            listener.onCustomerAdded(c);
+        }
+        CustomerNode node = new CustomerNode(c);
+        if((size + 1) * 2 > table.slots.length) {
+            resize();
+        }
+        insertSlot(table, node, h);
+        if(head == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        size++;
+        if(CargoMetrics.ENABLED) CargoMetrics.CUSTOMER_ADD.record(System.nanoTime() - t0);
+        return true;
+    }
+
+    // ID ile müşteri bul
+    // Zaman karmaşıklığı: O(1) ortalama
+    public Customer findCustomerByID(String id) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        CustomerNode node = findNode(id);
+        if(CargoMetrics.ENABLED) {
+            CargoMetrics.CUSTOMER_FIND.record(System.nanoTime() - t0);
+            if(node == null) CargoMetrics.CUSTOMER_FIND_MISS.increment();
+        }
+        return node == null ? null : node.customer;
+    }
+
+    // Aynı ID var mı kontrolü
+    // Zaman karmaşıklığı: O(1) ortalama
+    public boolean existsCustomerID(String id) {
+        return findNode(id) != null;
+    }
+
+    private CustomerNode findNode(String id) {
+        int h = hash(id);
+        Table t = table;
+        int mask = t.slots.length - 1;
+        int i = h & mask;
+        CustomerNode node;
+        while((node = (CustomerNode) SLOTS.getAcquire(t.slots, i)) != null) {
+            if(t.hashes[i] == h && node.customer.customerID.equals(id)) {
+                return node;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    // Hash önce yazılır, düğüm release ile yayınlanır: düğümü gören okuyucu hash'i de görür
+    private static void insertSlot(Table t, CustomerNode node, int h) {
+        int mask = t.slots.length - 1;
+        int i = h & mask;
+        while(t.slots[i] != null) {
+            i = (i + 1) & mask;
+        }
+        t.hashes[i] = h;
+        SLOTS.setRelease(t.slots, i, node);
+    }
+
+    // Tabloyu iki katına çıkarıp tüm düğümleri yeniden yerleştirir
+    // Zaman karmaşıklığı: O(n), ama ekleme başına amortize O(1)
+    private void resize() {
+        Table old = table;
+        Table grown = new Table(old.slots.length * 2);
+        for(int i = 0; i < old.slots.length; i++) {
+            if(old.slots[i] != null) {
+                insertSlot(grown, old.slots[i], old.hashes[i]);
+            }
+        }
+        table = grown;
+    }
+
+    // String.hashCode'un alt bitlerini karıştırır (ardışık rakam ID'lerinde kümelenmeyi azaltır)
+    private static int hash(String id) {
+        int h = id.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,6 @@
+package cargo;
+
+// Müşteri eklemeyi dinleyen yapılar (örn. kalıcılık günlüğü)
+interface CustomerListener {
+    void onCustomerAdded(Customer c);
+}
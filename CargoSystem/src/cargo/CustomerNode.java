@@ -0,0 +1,12 @@
+package cargo;
+
+// Müşteri LinkedList yapısı
+// next volatile: sona eklenen düğüm kilitsiz gezen okuyuculara güvenle yayınlanır
+class CustomerNode {
+    final Customer customer;
+    volatile CustomerNode next;
+    public CustomerNode(Customer c) {
+        this.customer = c;
+        this.next = null;
+    }
+}
@@ -0,0 +1,165 @@
+package cargo;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// Dağıtım kuyruğundaki gönderileri rota ağacının dallarına göre araç yüklerine bölen toplu planlayıcı
+// Kuyruk pencereler halinde (pollN) öncelik sırasıyla boşaltılır; her gönderi varış şehrinin branchDepth
+// derinliğindeki atasının dalına düşer (branchDepth = 1: Bursa dalı = Bursa + Kocaeli, aynı araç).
+// Her dal için bir açık yük tutulur; kapasite dolunca yük yayınlanır, plan sonunda yarım yükler de yayınlanır.
+// Yük içindeki sıra kuyruktan çıkış sırasıdır: kısa teslim süresi önce, yani merkeze yakın durak önce.
+// Şehir -> dal eşlemesi CityTable sıra numarasıyla indekslenen dizide önbelleklenir (gönderi başına hash yok);
+// rota ağacı değişirse (RouteTree.version) önbellek yenilenir.
+// plan: O(k + D), k = planlanan gönderi, D = dal sayısı; pencere listesi tekrar kullanılır, yük başına tek dizi
+// Eşzamanlılık: planlayıcı tek iş parçacığından kullanılır; kuyruğa plan sırasında eşzamanlı eklenebilir.
+// sink istisna fırlatırsa kabul edilmemiş gönderiler (açık yükler + pencerenin kalanı) kuyruğa geri verilir,
+// istisna çağırana iletilir; kabul edilmiş yükler geri alınmaz.
+// Uzay karmaşıklığı: O(W + D * capacity), W = pencere boyu
+class DispatchPlanner {
+    // Tek araç yükü
+    static final class Load {
+        // Plan içindeki araç sırası (1'den başlar)
+        final int vehicle;
+        // Yükün gittiği dalın kök şehri
+        final RouteNode branch;
+        final Shipment[] shipments;
+        // Yükteki en uzak durağın teslim süresi (gün)
+        final int maxDeliveryTime;
+
+        Load(int vehicle, RouteNode branch, Shipment[] shipments) {
+            this.vehicle = vehicle;
+            this.branch = branch;
+            this.shipments = shipments;
+            // Eşzamanlı eklemelerde kuyruk sırası yaklaşık olduğundan son eleman yerine tarama
+            int max = 0;
+            for(Shipment s : shipments) {
+                max = Math.max(max, s.deliveryTime);
+            }
+            this.maxDeliveryTime = max;
+        }
+    }
+
+    private final RouteTree routeTree;
+    private final int capacity;
+    private final int window;
+    private final int branchDepth;
+
+    // Şehir sıra no -> dal düğümü indeksi + 1 (0 = henüz hesaplanmadı)
+    private int[] branchOfCity = new int[16];
+    private int routeVersion = -1;
+    // Dal düğümü indeksi -> açık yük tamponu
+    private Shipment[][] open = new Shipment[0][];
+    private int[] openSize = new int[0];
+    private final ArrayList<Shipment> batch;
+    private int vehicles;
+
+    // capacity: araç başına gönderi, window: tek pollN'de çekilen gönderi
+    public DispatchPlanner(RouteTree routeTree, int capacity, int window, int branchDepth) {
+        if(capacity < 1 || window < 1 || branchDepth < 0) {
+            throw new IllegalArgumentException("Geçersiz plan ayarı: kapasite " + capacity
+                    + ", pencere " + window + ", dal derinliği " + branchDepth);
+        }
+        this.routeTree = routeTree;
+        this.capacity = capacity;
+        this.window = window;
+        this.branchDepth = branchDepth;
+        this.batch = new ArrayList<>(window);
+    }
+
+    // Kuyruktan en fazla maxShipments gönderiyi çekip araç yüklerine böler, her yükü sink'e verir
+    // Planlanan gönderi sayısını döndürür; araç numaraları her planda 1'den başlar
+    // Zaman karmaşıklığı: O(k + D)
+    public int plan(DispatchQueue queue, int maxShipments, Consumer<Load> sink) {
+        if(routeVersion != routeTree.version) {
+            resetBranches();
+        }
+        vehicles = 0;
+        int planned = 0;
+        // batch içinde açık yüklere henüz yerleşmemiş ilk gönderi
+        int consumed = 0;
+        boolean completed = false;
+        try {
+            while(planned < maxShipments) {
+                batch.clear();
+                consumed = 0;
+                int n = queue.pollN(Math.min(window, maxShipments - planned), batch);
+                if(n == 0) break;
+                for(int i = 0; i < n; i++) {
+                    Shipment s = batch.get(i);
+                    int b = branchOf(s);
+                    Shipment[] load = open[b];
+                    if(load == null) {
+                        load = open[b] = new Shipment[capacity];
+                    }
+                    load[openSize[b]++] = s;
+                    consumed = i + 1;
+                    if(openSize[b] == capacity) {
+                        // Dolu tampon yükün kendisi olur; sink kabul edince dal için yeni tampon ayrılır
+                        sink.accept(new Load(++vehicles, routeTree.nodes.get(b), load));
+                        open[b] = null;
+                        openSize[b] = 0;
+                    }
+                }
+                planned += n;
+            }
+            batch.clear();
+            consumed = 0;
+            // Yarım yükler (dal sırasıyla)
+            for(int b = 0; b < open.length; b++) {
+                if(openSize[b] == 0) continue;
+                sink.accept(new Load(++vehicles, routeTree.nodes.get(b), Arrays.copyOf(open[b], openSize[b])));
+                Arrays.fill(open[b], 0, openSize[b], null);
+                openSize[b] = 0;
+            }
+            completed = true;
+        } finally {
+            if(!completed) requeue(queue, consumed);
+            batch.clear();
+        }
+        return planned;
+    }
+
+    // sink (ya da kuyruk) istisna fırlattığında yayınlanmamış gönderileri kuyruğa geri verir:
+    // önce açık yükler (daha önce çekildiler), sonra pencerenin yerleşmemiş kalanı
+    private void requeue(DispatchQueue queue, int from) {
+        for(int b = 0; b < open.length; b++) {
+            for(int j = 0; j < openSize[b]; j++) {
+                queue.offer(open[b][j]);
+            }
+            if(openSize[b] > 0) Arrays.fill(open[b], 0, openSize[b], null);
+            openSize[b] = 0;
+        }
+        for(int j = from; j < batch.size(); j++) {
+            queue.offer(batch.get(j));
+        }
+    }
+
+    // Gönderinin dal düğümü indeksi; ağaçta olmayan şehirler merkez dalına düşer
+    private int branchOf(Shipment s) {
+        int city = s.cityOrdinal;
+        if(city >= branchOfCity.length) {
+            branchOfCity = Arrays.copyOf(branchOfCity, Math.max(city + 1, branchOfCity.length * 2));
+        }
+        int b = branchOfCity[city] - 1;
+        if(b < 0) {
+            RouteNode node = routeTree.findCity(CityTable.name(city));
+            if(node == null) node = routeTree.root;
+            while(node.depth > branchDepth) {
+                node = node.parent;
+            }
+            b = node.index;
+            branchOfCity[city] = b + 1;
+        }
+        return b;
+    }
+
+    private void resetBranches() {
+        Arrays.fill(branchOfCity, 0);
+        int nodes = routeTree.nodes.size();
+        if(open.length < nodes) {
+            open = Arrays.copyOf(open, nodes);
+            openSize = Arrays.copyOf(openSize, nodes);
+        }
+        routeVersion = routeTree.version;
+    }
+}
@@ -0,0 +1,21 @@
+package cargo;
+
+import java.util.*;
+
+// Kargo dağıtım kuyruğu: teslim süresi (deliveryTime) küçük olan önce çıkar
+interface DispatchQueue {
+    boolean offer(Shipment s);
+
+    // En öncelikli gönderiyi çıkarır, kuyruk boşsa null
+    Shipment poll();
+
+    // En fazla max gönderiyi öncelik sırasıyla çıkarıp out'a ekler, çıkarılan sayıyı döndürür
+    int pollN(int max, Collection<? super Shipment> out);
+
+    // Verilen teslim süresindeki tüm gönderileri (geliş sırasıyla) out'a boşaltır, çıkarılan sayıyı döndürür
+    int drainLevel(int deliveryTime, Collection<? super Shipment> out);
+
+    int size();
+
+    boolean isEmpty();
+}
@@ -0,0 +1,166 @@
+package cargo;
+
+import java.util.*;
+import java.util.function.Function;
+
+// Müşteri geçmişi ve son N çıktılarının sınırlı, okuma-üzerinden (read-through) önbelleği
+// Her müşteri için birkaç biçimde (menü / servis, tüm geçmiş / son N) hazır metin tutulur; sıcak
+// müşterilerde geçmiş gezilmez, metin yeniden kurulmaz. ShipmentListener olarak sadece değişen
+// müşterinin metinleri düşürülür (ekleme ve teslim değişikliği).
+// Tahliye: LRU (kayıtlar üzerinden çift yönlü bağlı liste, baş = en yeni), bütçe byte cinsinden
+// (-Dcargo.renderCache.bytes, varsayılan 32 MB; metin başına char * 2 + kayıt ek yükü sayılır).
+// Eşzamanlılık: tüm yapı önbelleğin kilidiyle korunur, metin kilit dışında üretilir. Her kayıt bir
+// nesil (generation) taşır; üretim başlarken okunan nesil, kaydetme anında değişmişse (arada geçersiz
+// kılma ya da tahliye olduysa) metin saklanmaz. Dinleyici müşteri kilidinin içinden çağrılır, önbellek
+// kilidi hiçbir zaman müşteri kilidini beklemez.
+// İsabet: O(1), nesne oluşturmaz; ıska: O(üretim) + O(1)
+// Uzay karmaşıklığı: bütçe ile sınırlı
+class HistoryRenderCache implements ShipmentListener {
+    // Metin türleri
+    static final int PRINT_ALL = 0;
+    static final int PRINT_LAST = 1;
+    static final int LIST_ALL = 2;
+    static final int LIST_LAST = 3;
+    private static final int KINDS = 4;
+
+    // Kayıt, metin dizisi ve HashMap düğümü için yaklaşık ek yük
+    private static final int ENTRY_OVERHEAD = 128;
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final class Entry {
+        final Customer owner;
+        final String[] texts = new String[KINDS];
+        long generation;
+        long bytes;
+        Entry prev;
+        Entry next;
+
+        Entry(Customer owner, long generation) {
+            this.owner = owner;
+            this.generation = generation;
+        }
+    }
+
+    private final long budgetBytes;
+    // Customer equals/hashCode tanımlamaz: kimlik karşılaştırması, get nesne oluşturmaz
+    private final HashMap<Customer, Entry> entries = new HashMap<>();
+    private Entry head;
+    private Entry tail;
+    private long usedBytes;
+    // Her yeni kayıt ve geçersiz kılmada artar; tahliye edilip yeniden oluşan kayıt eski nesli taşımaz
+    private long clock;
+
+    public HistoryRenderCache(long budgetBytes) {
+        if(budgetBytes < 0) {
+            throw new IllegalArgumentException("Bütçe negatif olamaz: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    // Müşterinin kind türündeki metni; önbellekte yoksa render ile üretip saklar
+    // render yan etkisiz olmalı ve müşteriyi kilitsiz (ya da kendi kilidiyle) okumalı
+    public String get(Customer c, int kind, Function<Customer, String> render) {
+        long generation;
+        synchronized(this) {
+            Entry e = entries.get(c);
+            if(e != null && e.texts[kind] != null) {
+                moveToFront(e);
+                if(CargoMetrics.ENABLED) CargoMetrics.RENDER_CACHE_HIT.increment();
+                return e.texts[kind];
+            }
+            if(e == null) {
+                e = new Entry(c, ++clock);
+                entries.put(c, e);
+                e.bytes = ENTRY_OVERHEAD;
+                usedBytes += ENTRY_OVERHEAD;
+                linkFront(e);
+                evict();
+            }
+            generation = e.generation;
+        }
+        if(CargoMetrics.ENABLED) CargoMetrics.RENDER_CACHE_MISS.increment();
+        String text = render.apply(c);
+        long size = (long) text.length() * 2 + STRING_OVERHEAD;
+        synchronized(this) {
+            Entry e = entries.get(c);
+            // Bütçeden büyük metin saklanmaz (tek başına tüm önbelleği boşaltırdı)
+            if(e != null && e.generation == generation && e.texts[kind] == null && size <= budgetBytes / 4) {
+                e.texts[kind] = text;
+                e.bytes += size;
+                usedBytes += size;
+                moveToFront(e);
+                evict();
+            }
+        }
+        return text;
+    }
+
+    // Menü çıktısını önbellekten yazar
+    public void print(Customer c, int kind, Function<Customer, String> render) {
+        System.out.print(get(c, kind, render));
+    }
+
+    @Override
+    public void onShipmentAdded(Customer owner, Shipment s) {
+        invalidate(owner);
+    }
+
+    @Override
+    public void onDeliveryChanged(Customer owner, Shipment s) {
+        invalidate(owner);
+    }
+
+    // Müşterinin tüm metinlerini düşürür; kayıt (LRU konumu) korunur, nesil ilerler
+    // Zaman karmaşıklığı: O(1)
+    public synchronized void invalidate(Customer c) {
+        Entry e = entries.get(c);
+        if(e == null) return;
+        e.generation = ++clock;
+        if(e.bytes == ENTRY_OVERHEAD) return;
+        Arrays.fill(e.texts, null);
+        usedBytes -= e.bytes - ENTRY_OVERHEAD;
+        e.bytes = ENTRY_OVERHEAD;
+    }
+
+    public synchronized long usedBytes() {
+        return usedBytes;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Bütçe aşıldıkça en eski kayıtları atar
+    private void evict() {
+        while(usedBytes > budgetBytes && tail != null) {
+            Entry e = tail;
+            unlink(e);
+            entries.remove(e.owner);
+            usedBytes -= e.bytes;
+            if(CargoMetrics.ENABLED) CargoMetrics.RENDER_CACHE_EVICT.increment();
+        }
+    }
+
+    private void moveToFront(Entry e) {
+        if(head == e) return;
+        unlink(e);
+        linkFront(e);
+    }
+
+    private void linkFront(Entry e) {
+        e.prev = null;
+        e.next = head;
+        if(head != null) head.prev = e;
+        head = e;
+        if(tail == null) tail = e;
+    }
+
+    private void unlink(Entry e) {
+        if(e.prev == null) head = e.next;
+        else e.prev.next = e.next;
+        if(e.next == null) tail = e.prev;
+        else e.next.prev = e.prev;
+        e.prev = null;
+        e.next = null;
+    }
+}
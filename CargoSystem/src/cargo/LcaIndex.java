@@ -0,0 +1,84 @@
+package cargo;
+
+import java.util.*;
+
+// Rota ağacı için en yakın ortak ata (LCA) indeksi - binary lifting
+// up[k][i] = i. düğümün 2^k üstündeki atası (root için kendisi)
+// Düğüm ekleme: O(log h) (sadece yeni düğümün satırı hesaplanır, yeniden kurma yok)
+// lca / distance sorgusu: O(log h), h = ağaç yüksekliği
+// Uzay karmaşıklığı: O(n log h)
+class LcaIndex {
+    private int[][] up = new int[1][16];
+    private int[] depth = new int[16];
+    private long[] rootDistance = new long[16]; // root'tan ağaç kenarları boyunca toplam süre
+    private int size;
+
+    // Düğümü ekler; ebeveyni daha önce eklenmiş olmalı (RouteTree.register bu sırayla çağırır)
+    void add(RouteNode node) {
+        int i = node.index;
+        ensureCapacity(i + 1);
+        int parent = node.parent == null ? i : node.parent.index;
+        depth[i] = node.depth;
+        rootDistance[i] = node.parent == null ? 0 : rootDistance[parent] + node.transitFromParent;
+        // Derinlik mevcut seviyelerle atlanamıyorsa yeni seviye ekle (tüm düğümler için bir kez, O(n))
+        while((1 << (up.length - 1)) < node.depth) {
+            addLevel();
+        }
+        up[0][i] = parent;
+        for(int k = 1; k < up.length; k++) {
+            up[k][i] = up[k - 1][up[k - 1][i]];
+        }
+        if(i >= size) size = i + 1;
+    }
+
+    // İki düğümün en yakın ortak atasının index'i
+    int lca(int a, int b) {
+        if(depth[a] < depth[b]) {
+            int t = a; a = b; b = t;
+        }
+        int diff = depth[a] - depth[b];
+        for(int k = 0; diff != 0; k++, diff >>>= 1) {
+            if((diff & 1) != 0) a = up[k][a];
+        }
+        if(a == b) return a;
+        for(int k = up.length - 1; k >= 0; k--) {
+            if(up[k][a] != up[k][b]) {
+                a = up[k][a];
+                b = up[k][b];
+            }
+        }
+        return up[0][a];
+    }
+
+    // Ağaç üzerinden (ortak ata aracılığıyla) iki düğüm arası toplam süre
+    long distance(int a, int b) {
+        int c = lca(a, b);
+        return rootDistance[a] + rootDistance[b] - 2 * rootDistance[c];
+    }
+
+    // İki düğüm arası kenar (atlama) sayısı
+    int hops(int a, int b) {
+        return depth[a] + depth[b] - 2 * depth[lca(a, b)];
+    }
+
+    private void addLevel() {
+        int levels = up.length;
+        up = Arrays.copyOf(up, levels + 1);
+        int[] prev = up[levels - 1];
+        int[] next = new int[prev.length];
+        for(int i = 0; i < size; i++) {
+            next[i] = prev[prev[i]];
+        }
+        up[levels] = next;
+    }
+
+    private void ensureCapacity(int n) {
+        if(n <= depth.length) return;
+        int cap = Math.max(n, depth.length * 2);
+        for(int k = 0; k < up.length; k++) {
+            up[k] = Arrays.copyOf(up[k], cap);
+        }
+        depth = Arrays.copyOf(depth, cap);
+        rootDistance = Arrays.copyOf(rootDistance, cap);
+    }
+}
@@ -0,0 +1,243 @@
+package cargo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntConsumer;
+
+// Yığın dışı modda müşterinin tarih sıralı gönderim geçmişi: slot numaralarından oluşan sıralı int parçaları
+// Skip list'in yerine geçer; düğüm nesnesi yok, gönderi başına ~4-6 byte.
+// Tarih sırası ShipmentHistory ile aynıdır (aynı tarihliler arasında yeni gönderi önde).
+// Geçmiş en fazla CHUNK slotluk sıralı parçalara (Chunk) bölünür, parçalar bir dizinde (Directory) sıralıdır.
+// Araya ekleme sadece bir parçayı kopyalar; dolu parça ikiye bölünür (dizin yeniden kurulur, her ~CHUNK / 2
+// eklemede bir). Küçük geçmişlerde tek parça 8'den başlayıp iki katına büyür.
+// Eşzamanlılık: yazanlar sahibi müşterinin yazma kilidiyle çağırır. Okuyucular kilitsizdir: bir parçanın ilk
+// size elemanı hiçbir zaman yerinde değişmez; sona ekleme size'dan sonrasına yazıp size'ı artırır, araya
+// ekleme parçanın yeni sürümünü kurup dizindeki yerine release ile yazar. Bölünmede yeni dizi kurulup tek
+// volatile yazımla yayınlanır, eski dizideki parçalar değişmez. Okuyucu her zaman sıralı ve tekrarsız bir
+// görüntü görür; eşzamanlı eklenenler görünebilir ya da görünmeyebilir.
+// Ekleme: O(log n) arama + O(CHUNK) kopya (sona eklemede O(1)) + bölünmede O(n / CHUNK) dizin kopyası
+// Son N gönderi için int halka tampon (müşterinin iyimser okumasıyla kopyalanır).
+final class OffHeapHistory {
+    // Parça kapasitesi üst sınırı: araya ekleme en fazla bu kadar int kopyalar
+    static final int CHUNK = 256;
+    private static final VarHandle CHUNKS = MethodHandles.arrayElementVarHandle(Chunk[].class);
+
+    private static final class Chunk {
+        final int[] slots;
+        volatile int size;
+
+        Chunk(int[] slots, int size) {
+            this.slots = slots;
+            this.size = size;
+        }
+    }
+
+    // chunks[0..count) sıralı parçalar; dizi sonraki dizinlerle paylaşılabilir (paylaşılan dizide sadece
+    // count'tan sonrası ya da aynı parçanın daha uzun sürümü yazılır)
+    private static final class Directory {
+        final Chunk[] chunks;
+        final int count;
+
+        Directory(Chunk[] chunks, int count) {
+            this.chunks = chunks;
+            this.count = count;
+        }
+    }
+
+    private final OffHeapShipmentStore store;
+    private volatile Directory directory = new Directory(new Chunk[] {new Chunk(new int[8], 0)}, 1);
+    private volatile int size;
+    private final int[] recent;
+    private int recentNext;
+    private int recentSize;
+
+    OffHeapHistory(OffHeapShipmentStore store, int lastN) {
+        if(lastN < 1) {
+            throw new IllegalArgumentException("Kapasite en az 1 olmalı: " + lastN);
+        }
+        this.store = store;
+        this.recent = new int[lastN];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // Slotu tarihine göre yerleştirir ve son N'e ekler
+    // Zaman karmaşıklığı: O(log n + CHUNK), bölünmede + O(n / CHUNK)
+    void insert(int slot) {
+        int date = store.date(slot);
+        Directory d = directory;
+        int c = chunkFor(d, date);
+        Chunk ch = chunk(d, c);
+        int n = ch.size;
+        int at = lowerBound(ch, n, date);
+        if(at == 0 && c > 0) {
+            // Önceki parçanın sonu da aynı konumdur; yer varsa oraya yerinde eklenir
+            Chunk before = chunk(d, c - 1);
+            if(before.size < before.slots.length) {
+                c--;
+                ch = before;
+                n = before.size;
+                at = n;
+            }
+        }
+        if(at == n && n < ch.slots.length) {
+            ch.slots[n] = slot;
+            ch.size = n + 1;
+        } else if(n < CHUNK) {
+            int[] grown = new int[n < ch.slots.length ? ch.slots.length : Math.min(CHUNK, ch.slots.length * 2)];
+            System.arraycopy(ch.slots, 0, grown, 0, at);
+            grown[at] = slot;
+            System.arraycopy(ch.slots, at, grown, at + 1, n - at);
+            CHUNKS.setRelease(d.chunks, c, new Chunk(grown, n + 1));
+        } else if(at == n) {
+            // Dolu parçanın sonu: parça olduğu gibi kalır, yeni slot yeni parçayı başlatır
+            int[] fresh = new int[CHUNK];
+            fresh[0] = slot;
+            insertChunk(d, c, ch, new Chunk(fresh, 1));
+        } else {
+            int half = n >>> 1;
+            int[] left = new int[CHUNK];
+            int[] right = new int[CHUNK];
+            if(at < half) {
+                System.arraycopy(ch.slots, 0, left, 0, at);
+                left[at] = slot;
+                System.arraycopy(ch.slots, at, left, at + 1, half - at);
+                System.arraycopy(ch.slots, half, right, 0, n - half);
+                insertChunk(d, c, new Chunk(left, half + 1), new Chunk(right, n - half));
+            } else {
+                System.arraycopy(ch.slots, 0, left, 0, half);
+                System.arraycopy(ch.slots, half, right, 0, at - half);
+                right[at - half] = slot;
+                System.arraycopy(ch.slots, at, right, at - half + 1, n - at);
+                insertChunk(d, c, new Chunk(left, half), new Chunk(right, n - half + 1));
+            }
+        }
+        size++;
+        pushRecent(slot);
+    }
+
+    // Tarihe göre sıralı (eşitlerde yeni önde) sorted[0..k) slotlarını tek geçişte birleştirir
+    // Yeni slotlar mevcutlardan yenidir: eşit tarihte önce gelirler
+    // Zaman karmaşıklığı: O(n + k)
+    void merge(int[] sorted, int k) {
+        int[] old = toArray(directory);
+        int n = old.length;
+        int total = n + k;
+        Chunk[] chunks = new Chunk[Math.max(1, (total + CHUNK - 1) / CHUNK)];
+        int i = 0;
+        int j = 0;
+        for(int c = 0; c < chunks.length; c++) {
+            int len = Math.min(CHUNK, total - c * CHUNK);
+            int[] out = new int[Math.max(8, Math.min(CHUNK, Integer.highestOneBit(Math.max(1, len - 1)) << 1))];
+            for(int o = 0; o < len; o++) {
+                if(j < k && (i == n || store.date(sorted[j]) <= store.date(old[i]))) out[o] = sorted[j++];
+                else out[o] = old[i++];
+            }
+            chunks[c] = new Chunk(out, len);
+        }
+        directory = new Directory(chunks, chunks.length);
+        size = total;
+    }
+
+    void pushRecent(int slot) {
+        recent[recentNext] = slot;
+        recentNext = recentNext + 1 == recent.length ? 0 : recentNext + 1;
+        if(recentSize < recent.length) recentSize++;
+    }
+
+    // Son N slotu en yeniden en eskiye out'a kopyalar (eşzamanlı yazmada tutarsız olabilir,
+    // çağıran kilit damgasıyla doğrular)
+    int copyRecent(int[] out) {
+        int n = Math.min(recentSize, recent.length);
+        int idx = recentNext;
+        for(int i = 0; i < n; i++) {
+            idx = idx == 0 ? recent.length - 1 : idx - 1;
+            out[i] = recent[idx];
+        }
+        return n;
+    }
+
+    // [fromDate, toDate] aralığındaki slotları tarih sırasıyla ziyaret eder (kilitsiz)
+    // Zaman karmaşıklığı: O(log n + k)
+    void forEach(int fromDate, int toDate, IntConsumer action) {
+        Directory d = directory;
+        int c = chunkFor(d, fromDate);
+        Chunk ch = chunk(d, c);
+        int n = ch.size;
+        int i = lowerBound(ch, n, fromDate);
+        while(true) {
+            for(; i < n; i++) {
+                int slot = ch.slots[i];
+                if(store.date(slot) > toDate) return;
+                action.accept(slot);
+            }
+            if(++c >= d.count) return;
+            ch = chunk(d, c);
+            n = ch.size;
+            i = 0;
+        }
+    }
+
+    // before'dan sonra yeni bir parça ekler, c konumu replacement olur
+    // Sadece sona eklemede (parça değişmeden) dizi paylaşılır; bölünmede eski dizi okuyucular için aynen kalır
+    private void insertChunk(Directory d, int c, Chunk replacement, Chunk after) {
+        Chunk[] chunks = d.chunks;
+        if(c + 1 == d.count && d.count < chunks.length && replacement == chunk(d, c)) {
+            chunks[d.count] = after;
+            directory = new Directory(chunks, d.count + 1);
+            return;
+        }
+        Chunk[] next = new Chunk[d.count < chunks.length ? chunks.length : chunks.length * 2];
+        System.arraycopy(chunks, 0, next, 0, c);
+        next[c] = replacement;
+        next[c + 1] = after;
+        System.arraycopy(chunks, c + 1, next, c + 2, d.count - c - 1);
+        directory = new Directory(next, d.count + 1);
+    }
+
+    private static Chunk chunk(Directory d, int c) {
+        return (Chunk) CHUNKS.getAcquire(d.chunks, c);
+    }
+
+    // Son tarihi date'ten küçük olmayan ilk parça, yoksa son parça
+    private int chunkFor(Directory d, int date) {
+        int lo = 0;
+        int hi = d.count - 1;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            Chunk ch = chunk(d, mid);
+            if(store.date(ch.slots[ch.size - 1]) < date) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // Parçada tarihi date'ten küçük olmayan ilk konum
+    private int lowerBound(Chunk ch, int n, int date) {
+        int lo = 0;
+        int hi = n;
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(store.date(ch.slots[mid]) < date) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int[] toArray(Directory d) {
+        int n = 0;
+        for(int c = 0; c < d.count; c++) {
+            n += chunk(d, c).size;
+        }
+        int[] out = new int[n];
+        int o = 0;
+        for(int c = 0; c < d.count; c++) {
+            Chunk ch = chunk(d, c);
+            System.arraycopy(ch.slots, 0, out, o, ch.size);
+            o += ch.size;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,178 @@
+package cargo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+// Yığın dışı ShipmentLookup: gönderi ID -> slot numarası
+// Anahtar ve slotlar ilkel dizilerde (long[] / int[]); sahibi slottaki sıra numarasından okunur.
+// Aynı ShipmentIndex gibi 64 kesim, kesim başına yazma kilidi, kilitsiz sorgu (slot+1 release ile
+// yayınlanır, 0 = boş). findShipment her çağrıda slottan yeni bir Shipment üretir.
+// Sorgu: O(1) ortalama
+// Uzay karmaşıklığı: ID başına ~24 byte yığın içi (doluluk <= 0.5), nesne yok
+final class OffHeapShipmentIndex implements ShipmentLookup {
+    private static final int SEGMENT_BITS = 6;
+    private static final VarHandle REFS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final OffHeapShipmentStore store;
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+    private final LongAdder deliveredCount = new LongAdder();
+
+    OffHeapShipmentIndex(OffHeapShipmentStore store) {
+        this.store = store;
+        for(int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public void onShipmentAdded(Customer owner, Shipment s) {
+        int h = hash(s.shipmentID);
+        segmentFor(h).put(s.shipmentID, s.arrival, h, store, deliveredCount);
+    }
+
+    @Override
+    public void onDeliveryChanged(Customer owner, Shipment s) {
+        int h = hash(s.shipmentID);
+        segmentFor(h).deliveryChanged(s, h, deliveredCount);
+    }
+
+    @Override
+    public Entry entry(long shipmentID) {
+        int slot = slotOf(shipmentID);
+        return slot < 0 ? null : new Entry(store.materialize(slot), store.owner(slot));
+    }
+
+    @Override
+    public Shipment findShipment(long shipmentID) {
+        int slot = slotOf(shipmentID);
+        return slot < 0 ? null : store.materialize(slot);
+    }
+
+    @Override
+    public Customer ownerOf(long shipmentID) {
+        int slot = slotOf(shipmentID);
+        return slot < 0 ? null : store.owner(slot);
+    }
+
+    // ID'nin güncel slotu, yoksa -1
+    // Zaman karmaşıklığı: O(1) ortalama
+    int slotOf(long shipmentID) {
+        int h = hash(shipmentID);
+        Segment.Table t = segmentFor(h).table;
+        int i = Segment.find(t, shipmentID, h);
+        return i < 0 ? -1 : t.refs[i] - 1;
+    }
+
+    @Override
+    public int size() {
+        int n = 0;
+        for(Segment seg : segments) {
+            n += seg.size;
+        }
+        return n;
+    }
+
+    @Override
+    public long deliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        int perSegment = expectedSize / segments.length + expectedSize / (segments.length * 4) + 16;
+        for(Segment seg : segments) {
+            seg.ensureCapacity(perSegment);
+        }
+    }
+
+    private Segment segmentFor(int h) {
+        return segments[h >>> (32 - SEGMENT_BITS)];
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Segment {
+        static final class Table {
+            final long[] ids;
+            // slot + 1 (0 = boş)
+            final int[] refs;
+
+            Table(int capacity) {
+                ids = new long[capacity];
+                refs = new int[capacity];
+            }
+        }
+
+        volatile Table table = new Table(16);
+        volatile int size;
+
+        static int find(Table t, long shipmentID, int h) {
+            int mask = t.refs.length - 1;
+            int i = h & mask;
+            while((int) REFS.getAcquire(t.refs, i) != 0) {
+                if(t.ids[i] == shipmentID) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        synchronized void put(long shipmentID, int slot, int h, OffHeapShipmentStore store, LongAdder delivered) {
+            int i = find(table, shipmentID, h);
+            if(i >= 0) {
+                if(store.delivered(table.refs[i] - 1)) delivered.decrement();
+            } else {
+                if((size + 1) * 2 > table.refs.length) {
+                    resize(table.refs.length * 2);
+                }
+                i = freeSlot(table, h);
+                table.ids[i] = shipmentID;
+                size++;
+            }
+            REFS.setRelease(table.refs, i, slot + 1);
+            if(store.delivered(slot)) delivered.increment();
+        }
+
+        synchronized void deliveryChanged(Shipment s, int h, LongAdder delivered) {
+            // Sadece indeksteki güncel kayıt sayılır
+            int i = find(table, s.shipmentID, h);
+            if(i < 0 || table.refs[i] - 1 != s.arrival) return;
+            if(s.delivered) delivered.increment();
+            else delivered.decrement();
+        }
+
+        synchronized void ensureCapacity(int expected) {
+            int cap = table.refs.length;
+            while(expected * 2 > cap) {
+                cap *= 2;
+            }
+            if(cap != table.refs.length) resize(cap);
+        }
+
+        private static int freeSlot(Table t, int h) {
+            int mask = t.refs.length - 1;
+            int i = h & mask;
+            while(t.refs[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        private void resize(int capacity) {
+            Table old = table;
+            Table grown = new Table(capacity);
+            for(int j = 0; j < old.refs.length; j++) {
+                if(old.refs[j] == 0) continue;
+                int i = freeSlot(grown, hash(old.ids[j]));
+                grown.ids[i] = old.ids[j];
+                grown.refs[i] = old.refs[j];
+            }
+            table = grown;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package cargo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Çok büyük veri setleri için gönderi kayıtlarının yığın dışı (off-heap) deposu
+// -Dcargo.storage=offheap ile açılır. Her gönderi sabit 32 byte'lık bir slottur; slotlar 1M'lik
+// doğrudan (direct) ByteBuffer kesimlerinde tutulur, GC bu belleği hiç taramaz. Müşteri geçmişi ve
+// global indeks Shipment nesnesi yerine slot numarası (int) saklar; Shipment nesneleri sadece
+// okuma anında slottan doldurulur (load ile tekrar kullanılan flyweight ya da materialize ile yeni nesne).
+// Slot düzeni: 0 id (long), 8 tarih, 12 teslim süresi, 16 şehir sıra no, 20 sahip müşteri sıra no,
+// 24 ayrılmış, 28 bayraklar (bit 0 teslim edildi, bit 1 slot yazıldı).
+// Slot numarası geliş sırasıdır (Shipment.arrival), müşteriler ekleme sırasıyla slot alır.
+// Eşzamanlılık: slot numarası atomik sayaçla ayrılır, yazan kendi slotunu kilitsiz doldurur; slot
+// bayrak alanına release ile yazılarak canlı olur. Teslim bayrağı volatile okunup yazılır.
+// Bellek: slot başına 32 byte (yığın içi modelde Shipment + ShipmentNode + indeks ~120 byte);
+// doğrudan bellek sınırı -XX:MaxDirectMemorySize ile (varsayılan: -Xmx kadar) ayarlanır.
+// Ekleme: O(1), alan okuma: O(1)
+// Uzay karmaşıklığı: O(m) yığın dışı, m = toplam gönderi sayısı
+final class OffHeapShipmentStore {
+    static final boolean ENABLED = "offheap".equals(System.getProperty("cargo.storage"));
+    // Açık değilse hiç doğrudan bellek ayrılmaz
+    static final OffHeapShipmentStore INSTANCE = ENABLED ? new OffHeapShipmentStore() : null;
+
+    static final int SLOT_BYTES = 32;
+    private static final int SEGMENT_BITS = 20;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+
+    private static final int ID = 0;
+    private static final int DATE = 8;
+    private static final int DELIVERY_TIME = 12;
+    private static final int CITY = 16;
+    private static final int OWNER = 20;
+    private static final int FLAGS = 28;
+    private static final int DELIVERED = 1;
+    private static final int LIVE = 2;
+
+    // Doğrudan tampon üzerinde hizalı int için volatile/release erişim
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    // Kesim dizisi kopyala-yaz: yeni kesim eklenince dizi tekrar yayınlanır, kesimler hiç taşınmaz
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    // Sahip müşteri sıra no -> müşteri (slotta 4 byte'lık sıra no tutulur)
+    private volatile Customer[] owners = new Customer[16];
+    private int ownerCount;
+
+    // Müşteriye sahip sıra numarası verir (sahibin ilk eklemesinde, müşteri kilidi içinden)
+    // Zaman karmaşıklığı: O(1) amortize
+    synchronized int register(Customer c) {
+        Customer[] arr = owners;
+        if(ownerCount == arr.length) {
+            arr = Arrays.copyOf(arr, ownerCount * 2);
+        }
+        arr[ownerCount] = c;
+        owners = arr;
+        return ownerCount++;
+    }
+
+    Customer owner(int slot) {
+        return owners[buffer(slot).getInt(offset(slot) + OWNER)];
+    }
+
+    // Gönderiyi yeni bir slota yazar, s.arrival'ı slot numarası yapar ve slot numarasını döndürür
+    // Zaman karmaşıklığı: O(1) (yeni kesim gerekirse bir kez 32 MB ayırma)
+    int add(Shipment s, int ownerOrdinal) {
+        int slot = nextSlot.getAndIncrement();
+        if(slot < 0) {
+            throw new IllegalStateException("Yığın dışı depo dolu: en fazla " + Integer.MAX_VALUE + " gönderi");
+        }
+        ByteBuffer buf = segment(slot >>> SEGMENT_BITS);
+        int off = offset(slot);
+        buf.putLong(off + ID, s.shipmentID);
+        buf.putInt(off + DATE, s.date);
+        buf.putInt(off + DELIVERY_TIME, s.deliveryTime);
+        buf.putInt(off + CITY, s.cityOrdinal);
+        buf.putInt(off + OWNER, ownerOrdinal);
+        INT.setRelease(buf, off + FLAGS, LIVE | (s.delivered ? DELIVERED : 0));
+        s.arrival = slot;
+        return slot;
+    }
+
+    // Ayrılmış slot sayısı (henüz yazılmakta olanlar dahil, onlar live() değildir)
+    int size() {
+        return Math.min(nextSlot.get(), segments.length << SEGMENT_BITS);
+    }
+
+    long id(int slot) {
+        return buffer(slot).getLong(offset(slot) + ID);
+    }
+
+    int date(int slot) {
+        return buffer(slot).getInt(offset(slot) + DATE);
+    }
+
+    int deliveryTime(int slot) {
+        return buffer(slot).getInt(offset(slot) + DELIVERY_TIME);
+    }
+
+    boolean delivered(int slot) {
+        return ((int) INT.getVolatile(buffer(slot), offset(slot) + FLAGS) & DELIVERED) != 0;
+    }
+
+    // Slot tamamen yazılıp yayınlandı mı (tarayıcılar için)
+    boolean live(int slot) {
+        return ((int) INT.getAcquire(buffer(slot), offset(slot) + FLAGS) & LIVE) != 0;
+    }
+
+    // Teslim bayrağı sahibi müşterinin yazma kilidiyle değişir
+    void setDelivered(int slot, boolean delivered) {
+        INT.setVolatile(buffer(slot), offset(slot) + FLAGS, LIVE | (delivered ? DELIVERED : 0));
+    }
+
+    // Slotu verilen nesneye doldurur (flyweight): gezinme başına tek nesne, çağıran saklamamalı
+    Shipment load(int slot, Shipment into) {
+        ByteBuffer buf = buffer(slot);
+        int off = offset(slot);
+        into.shipmentID = buf.getLong(off + ID);
+        into.date = buf.getInt(off + DATE);
+        into.deliveryTime = buf.getInt(off + DELIVERY_TIME);
+        into.cityOrdinal = buf.getInt(off + CITY);
+        into.delivered = ((int) INT.getVolatile(buf, off + FLAGS) & DELIVERED) != 0;
+        into.arrival = slot;
+        return into;
+    }
+
+    // Slottan yeni, saklanabilir bir Shipment (indeks sorguları, son N, anlık görüntü için)
+    Shipment materialize(int slot) {
+        return load(slot, new Shipment(0L, 0, false, 0, 0));
+    }
+
+    private ByteBuffer buffer(int slot) {
+        return segments[slot >>> SEGMENT_BITS];
+    }
+
+    private static int offset(int slot) {
+        return (slot & SEGMENT_MASK) * SLOT_BYTES;
+    }
+
+    private ByteBuffer segment(int index) {
+        ByteBuffer[] segs = segments;
+        if(index < segs.length) return segs[index];
+        synchronized(this) {
+            segs = segments;
+            while(index >= segs.length) {
+                segs = Arrays.copyOf(segs, segs.length + 1);
+                segs[segs.length - 1] = ByteBuffer.allocateDirect(SLOT_BYTES << SEGMENT_BITS).order(ByteOrder.nativeOrder());
+            }
+            segments = segs;
+            return segs[index];
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package cargo;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// Yığın dışı UndeliveredSource
+// UndeliveredView ile aynı yapı (ArrivalBuckets): her teslim süresi için çift yönlü bağlı bir kova, aynı
+// süredekiler ekleme sırasıyla. Yığın dışı modda geliş numarası slot numarasıdır; numara -> gönderi tablosu
+// gerekmez, listelemede slotlar depodan okunur (forEach: tekrar kullanılan nesne, iterator: yeni nesne).
+// Ekleme / çıkarma: O(1), listeleme: O(k + C), k = listelenen, C = kova sayısı (küçük)
+// Uzay karmaşıklığı: O(m) int (slot başına 8 byte, yığında nesne yok), m = depodaki slot
+// Eşzamanlılık: UndeliveredView ile aynı; tüm işlemler görünümün kilidiyle sıralanır.
+final class OffHeapUndeliveredView implements UndeliveredSource {
+    private final OffHeapShipmentStore store;
+    private final ArrivalBuckets buckets = new ArrivalBuckets();
+
+    OffHeapUndeliveredView(OffHeapShipmentStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public synchronized void onShipmentAdded(Customer owner, Shipment s) {
+        if(!s.delivered) buckets.add(s.arrival, s.deliveryTime);
+    }
+
+    @Override
+    public synchronized void onDeliveryChanged(Customer owner, Shipment s) {
+        if(s.delivered) buckets.remove(s.arrival, s.deliveryTime);
+        else buckets.add(s.arrival, s.deliveryTime);
+    }
+
+    @Override
+    public synchronized int size() {
+        return buckets.size();
+    }
+
+    // action'a verilen nesne tekrar kullanılır (flyweight), saklanmamalı
+    // Zaman karmaşıklığı: O(offset + limit + C)
+    @Override
+    public synchronized void forEach(int offset, int limit, Consumer<Shipment> action) {
+        Shipment cursor = new Shipment(0L, 0, false, 0, 0);
+        int skipped = 0;
+        int emitted = 0;
+        for(int t = 0; t < buckets.levels() && emitted < limit; t++) {
+            for(int slot = buckets.first(t); slot >= 0 && emitted < limit; slot = buckets.next(slot)) {
+                if(skipped < offset) {
+                    skipped++;
+                } else {
+                    action.accept(store.load(slot, cursor));
+                    emitted++;
+                }
+            }
+        }
+    }
+
+    // Görünüm değişirse davranış tanımsız
+    @Override
+    public Iterator<Shipment> iterator() {
+        return new Iterator<Shipment>() {
+            private int bucket = -1;
+            private int upcoming = advance(-1);
+
+            private int advance(int current) {
+                if(current >= 0) {
+                    int following = buckets.next(current);
+                    if(following >= 0) return following;
+                }
+                while(++bucket < buckets.levels()) {
+                    int first = buckets.first(bucket);
+                    if(first >= 0) return first;
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return upcoming >= 0;
+            }
+
+            @Override
+            public Shipment next() {
+                if(upcoming < 0) throw new NoSuchElementException();
+                int slot = upcoming;
+                upcoming = advance(slot);
+                return store.materialize(slot);
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package cargo;
+
+import java.util.concurrent.RecursiveAction;
+
+// Fork-join merge sort: yarılar paralel sıralanır, sonra birleştirilir
+class ParallelMergeSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int SEQUENTIAL_THRESHOLD = 8192;
+    private final Shipment[] a;
+    private final Shipment[] scratch;
+    private final int lo;
+    private final int hi;
+
+    ParallelMergeSortTask(Shipment[] a, Shipment[] scratch, int lo, int hi) {
+        this.a = a;
+        this.scratch = scratch;
+        this.lo = lo;
+        this.hi = hi;
+    }
+
+    @Override
+    protected void compute() {
+        if(hi - lo <= SEQUENTIAL_THRESHOLD) {
+            SortAndSearch.mergeSortRange(a, scratch, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        invokeAll(new ParallelMergeSortTask(a, scratch, lo, mid),
+                new ParallelMergeSortTask(a, scratch, mid, hi));
+        SortAndSearch.mergeHalves(a, scratch, lo, mid, hi);
+    }
+}
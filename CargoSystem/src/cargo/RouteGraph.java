@@ -0,0 +1,237 @@
+package cargo;
+
+import java.util.*;
+
+// Rota ağacı + yan bağlantılar üzerinde ağırlıklı en kısa yol motoru (Dijkstra)
+// Komşuluk CSR (sıkıştırılmış satır) dizilerinde tutulur, öncelik kuyruğu ilkel indeksli ikili yığın.
+// Sık sorulan çıkış merkezleri için tüm şehirlere mesafe dizisi LRU önbellekte saklanır,
+// böylece aynı merkezden sonraki her sorgu O(1) olur.
+// Tek kaynak: O((n + e) log n), önbellekten: O(1)
+// Uzay karmaşıklığı: O(n + e) + önbellek başına O(n)
+// Eşzamanlılık: önbellek (erişim sıralı LRU) ve paylaşılan yığın okumada da değiştiği için sorgular
+// graf kilidiyle sıralanır; önbellekten cevaplanan sorgu kilidi çok kısa tutar.
+class RouteGraph {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    // Önbellekte tutulacak en fazla çıkış merkezi sayısı
+    static final int HOT_ORIGINS = Integer.getInteger("cargo.route.hotOrigins", 64);
+
+    private final RouteTree tree;
+    private int builtVersion = -1;
+
+    // CSR: i. düğümün komşuları targets[offsets[i] .. offsets[i+1]-1]
+    private int[] offsets;
+    private int[] targets;
+    private int[] weights;
+
+    private IndexedMinHeap heap;
+    private int[] scratchDist;
+
+    // çıkış düğümü index -> tüm düğümlere mesafe (erişim sırasına göre LRU)
+    private final LinkedHashMap<Integer, int[]> hotOrigins = new LinkedHashMap<Integer, int[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest) {
+            return size() > HOT_ORIGINS;
+        }
+    };
+
+    RouteGraph(RouteTree tree) {
+        this.tree = tree;
+    }
+
+    // İki düğüm arası en kısa süre, ulaşılamıyorsa -1
+    public int distance(RouteNode from, RouteNode to) {
+        int d = distancesFrom(from)[to.index];
+        return d == UNREACHABLE ? -1 : d;
+    }
+
+    // Çıkış düğümünden tüm düğümlere mesafe (önbellekten veya Dijkstra ile)
+    // Dönen dizi paylaşılır, değiştirilmemelidir
+    public synchronized int[] distancesFrom(RouteNode origin) {
+        ensureBuilt();
+        int[] dist = hotOrigins.get(origin.index);
+        if(dist == null) {
+            dist = new int[offsets.length - 1];
+            dijkstra(origin.index, dist);
+            hotOrigins.put(origin.index, dist);
+        }
+        return dist;
+    }
+
+    // Tek hedefli sorgu: hedef kuyruktan çıkınca durur, önbelleğe yazmaz
+    public synchronized int shortestPath(RouteNode from, RouteNode to) {
+        ensureBuilt();
+        int[] cached = hotOrigins.get(from.index);
+        if(cached != null) {
+            return cached[to.index] == UNREACHABLE ? -1 : cached[to.index];
+        }
+        int n = offsets.length - 1;
+        if(scratchDist == null || scratchDist.length < n) {
+            scratchDist = new int[n];
+        }
+        Arrays.fill(scratchDist, 0, n, UNREACHABLE);
+        scratchDist[from.index] = 0;
+        heap.clear();
+        heap.insertOrDecrease(from.index, 0);
+        while(!heap.isEmpty()) {
+            int u = heap.pollMin();
+            if(u == to.index) return scratchDist[u];
+            relax(u, scratchDist);
+        }
+        return -1;
+    }
+
+    private void dijkstra(int origin, int[] dist) {
+        Arrays.fill(dist, UNREACHABLE);
+        dist[origin] = 0;
+        heap.clear();
+        heap.insertOrDecrease(origin, 0);
+        while(!heap.isEmpty()) {
+            relax(heap.pollMin(), dist);
+        }
+    }
+
+    private void relax(int u, int[] dist) {
+        int du = dist[u];
+        for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+            int v = targets[e];
+            int w = weights[e];
+            if(du > UNREACHABLE - 1 - w) continue; // taşma koruması
+            int nd = du + w;
+            if(nd < dist[v]) {
+                dist[v] = nd;
+                heap.insertOrDecrease(v, nd);
+            }
+        }
+    }
+
+    // Ağaç değiştiyse CSR dizilerini baştan kurar ve önbelleği boşaltır
+    // Zaman karmaşıklığı: O(n + e)
+    private void ensureBuilt() {
+        if(builtVersion == tree.version) return;
+        int n = tree.nodes.size();
+        int[] degree = new int[n + 1];
+        for(RouteNode node : tree.nodes) {
+            if(node.parent != null) {
+                degree[node.index]++;
+                degree[node.parent.index]++;
+            }
+        }
+        for(int[] link : tree.links) {
+            degree[link[0]]++;
+            degree[link[1]]++;
+        }
+        offsets = new int[n + 1];
+        for(int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + degree[i];
+        }
+        targets = new int[offsets[n]];
+        weights = new int[offsets[n]];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for(RouteNode node : tree.nodes) {
+            if(node.parent != null) {
+                addEdge(fill, node.index, node.parent.index, node.transitFromParent);
+                addEdge(fill, node.parent.index, node.index, node.transitFromParent);
+            }
+        }
+        for(int[] link : tree.links) {
+            addEdge(fill, link[0], link[1], link[2]);
+            addEdge(fill, link[1], link[0], link[2]);
+        }
+        heap = new IndexedMinHeap(n);
+        hotOrigins.clear();
+        builtVersion = tree.version;
+    }
+
+    private void addEdge(int[] fill, int from, int to, int weight) {
+        int e = fill[from]++;
+        targets[e] = to;
+        weights[e] = weight;
+    }
+}
+
+// Düğüm index'i ile adreslenen ikili min-yığın (decrease-key destekli, kutulama yok)
+// insertOrDecrease / pollMin: O(log n), clear: O(boyut)
+// Uzay karmaşıklığı: O(n)
+class IndexedMinHeap {
+    private final int[] heap; // yığın konumu -> düğüm
+    private final int[] pos;  // düğüm -> yığın konumu (-1 = yığında değil)
+    private final int[] keys; // düğüm -> öncelik
+    private int size;
+
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        pos = new int[capacity];
+        keys = new int[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        for(int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    void insertOrDecrease(int node, int key) {
+        int i = pos[node];
+        if(i < 0) {
+            i = size++;
+            heap[i] = node;
+            pos[node] = i;
+        } else if(key >= keys[node]) {
+            return;
+        }
+        keys[node] = key;
+        siftUp(i);
+    }
+
+    int pollMin() {
+        int min = heap[0];
+        pos[min] = -1;
+        size--;
+        if(size > 0) {
+            heap[0] = heap[size];
+            pos[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    private void siftUp(int i) {
+        int node = heap[i];
+        int key = keys[node];
+        while(i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if(keys[p] <= key) break;
+            heap[i] = p;
+            pos[p] = i;
+            i = parent;
+        }
+        heap[i] = node;
+        pos[node] = i;
+    }
+
+    private void siftDown(int i) {
+        int node = heap[i];
+        int key = keys[node];
+        int half = size >>> 1;
+        while(i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if(right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            if(key <= keys[heap[child]]) break;
+            heap[i] = heap[child];
+            pos[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = node;
+        pos[node] = i;
+    }
+}
@@ -0,0 +1,41 @@
+package cargo;
+
+import java.util.*;
+
+// Ağaç yapısı (Rotalar)
+class RouteNode {
+    String cityName;
+    String cityID;
+    ArrayList<RouteNode> children;
+    RouteNode parent;
+    int depth; // root'un derinliği 0
+    int transitFromParent = 1; // ebeveynden bu şehre yol süresi (gün)
+    int index = -1; // ağaçtaki sıra numarası (RouteGraph dizileri için)
+    RouteTree tree; // düğüm bir ağaca bağlıysa o ağaç (indeks güncellemesi için)
+
+    public RouteNode(String cityName, String cityID) {
+        this.cityName = cityName;
+        this.cityID = cityID;
+        this.children = new ArrayList<>();
+    }
+
+    // Çocuk ekler; bu düğüm bir ağaca bağlıysa eklenen alt ağaç şehir indeksine de yazılır
+    // Zaman karmaşıklığı: O(s), s = eklenen alt ağacın düğüm sayısı (tek düğüm için O(1))
+    public void addChild(RouteNode node) {
+        addChild(node, 1);
+    }
+
+    // Yol süresi (gün) verilen çocuk ekler
+    public void addChild(RouteNode node, int transitDays) {
+        if(transitDays < 0) {
+            throw new IllegalArgumentException("Yol süresi negatif olamaz: " + transitDays);
+        }
+        children.add(node);
+        node.parent = this;
+        node.transitFromParent = transitDays;
+        node.depth = depth + 1;
+        if(tree != null) {
+            tree.register(node);
+        }
+    }
+}
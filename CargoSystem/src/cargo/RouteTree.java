@@ -0,0 +1,161 @@
+package cargo;
+
+import java.util.*;
+
+// Ağaç başlangıçta kurulur; sonrasında sorgular (findCity, transitTime, distance) eşzamanlı çağrılabilir,
+// ağacı değiştirmek (addChild, addLink) tek iş parçacığından ve sorgulardan önce yapılmalıdır.
+class RouteTree {
+    RouteNode root;
+
+    // Büyük/küçük harf katlanmış şehir adı -> düğüm
+    // Aynı isimli birden fazla şehir varsa ilk eklenen geçerli olur
+    // Uzay karmaşıklığı: O(n)
+    private final HashMap<String, RouteNode> cityIndex = new HashMap<>();
+    // index -> düğüm
+    final ArrayList<RouteNode> nodes = new ArrayList<>();
+    // Ağaç dışı yan bağlantılar {a.index, b.index, gün} (çift yönlü)
+    final ArrayList<int[]> links = new ArrayList<>();
+    // Her yapı değişikliğinde artar, RouteGraph önbelleği buna göre yenilenir
+    int version;
+    private RouteGraph graph;
+    // Şehirler arası ağaç mesafesi için en yakın ortak ata indeksi (addChild ile artımlı güncellenir)
+    private final LcaIndex lcaIndex = new LcaIndex();
+
+    public RouteTree(String rootName, String rootID) {
+        root = new RouteNode(rootName, rootID);
+        register(root);
+    }
+
+    // İki şehir arasına ağaç dışı (yan) bağlantı ekler
+    // Zaman karmaşıklığı: O(1)
+    public void addLink(RouteNode a, RouteNode b, int transitDays) {
+        if(a.tree != this || b.tree != this) {
+            throw new IllegalArgumentException("Bağlantı uçları bu ağaçta olmalı");
+        }
+        if(transitDays < 0) {
+            throw new IllegalArgumentException("Yol süresi negatif olamaz: " + transitDays);
+        }
+        links.add(new int[]{a.index, b.index, transitDays});
+        version++;
+    }
+
+    // Ağaç + yan bağlantılar üzerinde ağırlıklı yol motoru (yapı değiştikçe kendini yeniler)
+    public synchronized RouteGraph graph() {
+        if(graph == null) {
+            graph = new RouteGraph(this);
+        }
+        return graph;
+    }
+
+    // İki şehir arasındaki en kısa yol süresi (gün), şehirlerden biri yoksa -1
+    public int transitTime(String fromCity, String toCity) {
+        RouteNode from = findCity(fromCity);
+        RouteNode to = findCity(toCity);
+        if(from == null || to == null) return -1;
+        return graph().distance(from, to);
+    }
+
+    // İki şehrin en yakın ortak atası (örn. Kocaeli ve Tekirdag için Istanbul), şehirlerden biri yoksa null
+    // Zaman karmaşıklığı: O(log h)
+    public RouteNode lowestCommonAncestor(String cityA, String cityB) {
+        RouteNode a = findCity(cityA);
+        RouteNode b = findCity(cityB);
+        if(a == null || b == null) return null;
+        return nodes.get(lcaIndex.lca(a.index, b.index));
+    }
+
+    // İki şehir arasında ağaç üzerinden (ortak ata aracılığıyla) yol süresi (gün), şehirlerden biri yoksa -1
+    // Yan bağlantıları kullanmaz; onlar için transitTime
+    // Zaman karmaşıklığı: O(log h)
+    public long distance(String cityA, String cityB) {
+        RouteNode a = findCity(cityA);
+        RouteNode b = findCity(cityB);
+        if(a == null || b == null) return -1;
+        return lcaIndex.distance(a.index, b.index);
+    }
+
+    // Merkezden (root) şehre en kısa yol süresi (gün), şehir yoksa -1
+    // Yan bağlantı ve özel süre yoksa getCityDepth ile aynıdır
+    public int transitTime(String cityName) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        RouteNode to = findCity(cityName);
+        int days = to == null ? -1 : graph().distance(root, to);
+        if(CargoMetrics.ENABLED) CargoMetrics.ROUTE_TRANSIT.record(System.nanoTime() - t0);
+        return days;
+    }
+
+    // Alt ağacı indekse ekler, derinlik ve ağaç bilgisini ebeveynden yeniden hesaplar
+    // (ağaca bağlanmadan önce kurulmuş alt ağaçlar için de doğru derinlik verir)
+    // Zaman karmaşıklığı: O(s), özyineleme yok (açık yığın)
+    // Uzay karmaşıklığı: O(s)
+    void register(RouteNode subtreeRoot) {
+        ArrayDeque<RouteNode> stack = new ArrayDeque<>();
+        stack.push(subtreeRoot);
+        while(!stack.isEmpty()) {
+            RouteNode node = stack.pop();
+            if(node.tree != this) {
+                node.index = nodes.size();
+                nodes.add(node);
+            }
+            node.tree = this;
+            node.depth = node.parent == null ? 0 : node.parent.depth + 1;
+            cityIndex.putIfAbsent(foldCase(node.cityName), node);
+            lcaIndex.add(node);
+            for(RouteNode child : node.children) {
+                stack.push(child);
+            }
+        }
+        version++;
+    }
+
+    // Ağacı yazdırma - basit DFS
+    // Zaman karmaşıklığı: O(n) (tüm düğümleri dolaşır),
+    // Uzay karmaşıklığı: O(h) (derinlik kadar recursion stack), h = ağaç yüksekliği
+    public void printTree(RouteNode node, String indent) {
+        System.out.println(indent + node.cityName + " (" + node.cityID + ")");
+        for(RouteNode child : node.children) {
+            printTree(child, indent + "--");
+        }
+    }
+    public void printTree() {
+        printTree(root, "");
+    }
+
+    // Şehir adına göre düğüm (yoksa null)
+    // Zaman karmaşıklığı: O(1) ortalama (isim uzunluğu kadar katlama)
+    public RouteNode findCity(String cityName) {
+        return cityIndex.get(foldCase(cityName));
+    }
+
+    // Şehrin CityTable sıra numarası: ağaçtaki şehir kanonik adıyla (RouteNode.cityName), bilinmeyen şehir
+    // CityTable'ın normalize anahtarıyla eklenir; böylece yazım farkı olan girişler aynı sıra numarasını alır
+    // Zaman karmaşıklığı: O(1) ortalama
+    public int cityOrdinal(String cityName) {
+        RouteNode node = findCity(cityName);
+        return CityTable.intern(node != null ? node.cityName : cityName);
+    }
+
+    // Şehir adını bulup derinliğini döndür (root’un derinliği 0)
+    // Zaman karmaşıklığı: O(1) ortalama, özyineleme yok
+    public int getCityDepth(String cityName) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        RouteNode node = findCity(cityName);
+        if(CargoMetrics.ENABLED) CargoMetrics.ROUTE_DEPTH.record(System.nanoTime() - t0);
+        return node == null ? -1 : node.depth;
+    }
+
+    // Şehir ağaçta var mı?
+    // Zaman karmaşıklığı: O(1) ortalama
+    public boolean cityExists(String cityName) {
+        return findCity(cityName) != null;
+    }
+
+    // equalsIgnoreCase ile aynı eşitliği veren anahtar (karakter karakter upper -> lower)
+    static String foldCase(String name) {
+        char[] chars = name.toCharArray();
+        for(int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+}
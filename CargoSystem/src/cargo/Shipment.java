@@ -0,0 +1,53 @@
+package cargo;
+
+// Shipment (Gönderi) sınıfı
+// Zaman Karmaşıklığı Notu: Sınıfın oluştuırulması O(1),
+// Uzay Karmaşıklığı : Her Shipment nesnesi, sabit sayıda alan tuttuğu için O(1).
+// Alanlar ilkel tiplerde tutulur: ID long, tarih YYYYMMDD int, şehir CityTable sıra numarası.
+// Böylece gönderi başına String/byte[] nesneleri oluşmaz, karşılaştırmalar ilkel tiplerle yapılır.
+// Boyut (JOL, 64 bit, sıkıştırılmış oop): 40 byte. Gönderinin kendi verisi 12 byte başlık + 21 byte alan;
+// kalanı yapıların kayıt alanları (arrival) ve hizalama.
+// Eşzamanlılık: teslim durumu dışındaki alanlar geçmişe eklenmeden önce yazılır ve sonra değişmez;
+// delivered sahibi müşterinin kilidiyle değişir, kilitsiz okuyucular için volatile.
+class Shipment
+{
+    long shipmentID;
+    int date; // YYYYMMDD -> sayısal sıralama tarih sıralamasıyla aynı
+    volatile boolean delivered;
+    int deliveryTime; // gün olarak -> rota ağacındaki derinlikle belirlenir
+    int cityOrdinal;
+    // Tüm müşterilerdeki geliş sırası (Customer ekleme anında verir; yığın dışı modda slot numarası, eklenmeden -1)
+    // Anlık görüntü gönderileri bu sırayla yazar, tekrar oynatma aynı sırayla ekler;
+    // görünümler gönderi başına kayıtlarını bu numarayla indekslenen dizilerde tutar (ArrivalInts)
+    int arrival = -1;
+
+    public Shipment(long shipmentID, int date, boolean delivered, int deliveryTime, int cityOrdinal)
+    {
+        this.shipmentID = shipmentID;
+        this.date = date;
+        this.delivered = delivered;
+        this.deliveryTime = deliveryTime;
+        this.cityOrdinal = cityOrdinal;
+    }
+
+    // Rakam dizisi ID ve YYYYMMDD tarih ile (menü girişleri için)
+    public Shipment(String shipmentID, String date, boolean delivered, int deliveryTime, String destinationCity)
+    {
+        this(Long.parseLong(shipmentID), Integer.parseInt(date), delivered, deliveryTime, CityTable.intern(destinationCity));
+    }
+
+    public String destinationCity() {
+        return CityTable.name(cityOrdinal);
+    }
+
+    // Tarihi 8 haneli YYYYMMDD olarak döndürür (baştaki sıfırlar korunur)
+    public String dateText() {
+        char[] buf = new char[8];
+        int d = date;
+        for(int i = 7; i >= 0; i--) {
+            buf[i] = (char) ('0' + d % 10);
+            d /= 10;
+        }
+        return new String(buf);
+    }
+}
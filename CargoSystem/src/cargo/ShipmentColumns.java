@@ -0,0 +1,195 @@
+package cargo;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+// Toplama sorguları için gönderilerin sütunlu (columnar) kopyası
+// Nesne modeliyle yan yana tutulur, ShipmentListener olarak artımlı doldurulur. Her gönderi bir satırdır
+// (geliş numarası -> satır eşlemesi ArrivalInts'te, teslim olayları için); sütunlar ilkel diziler: id, tarih, teslim süresi, şehir sıra no ve teslim bit kümesi.
+// Satırlar 65536'lık parçalarda (chunk) tutulur: parçalar hiç taşınmaz, büyürken sadece parça dizini kopyalanır.
+// Sorgular parçaları paralel tarar (her parça kendi yerel sayaçlarıyla, sonra birleştirilir),
+// gönderi nesnelerine ve ShipmentNode zincirlerine dokunmaz.
+// Eşzamanlılık: yazanlar kilitle sıralanır, satır tüm sütunları yazıldıktan sonra size ile yayınlanır;
+// sorgular kilitsizdir ve eşzamanlı yazmalar altında yaklaşık bir anlık görüntü verir.
+// Aynı ID ile tekrar eklenen gönderiler ayrı satırlardır (indeksin aksine "en yeni geçerli" değildir).
+// Ekleme / teslim değişikliği: O(1) amortize, sorgu: O(m / p + p * C), m = satır, p = paralellik, C = şehir
+// Uzay karmaşıklığı: satır başına ~24 byte (eşleme dahil)
+class ShipmentColumns implements ShipmentListener {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK = 1 << CHUNK_BITS;
+    private static final int MASK = CHUNK - 1;
+
+    private static final class Chunk {
+        final long[] ids = new long[CHUNK];
+        final int[] dates = new int[CHUNK];
+        final int[] deliveryTimes = new int[CHUNK];
+        final int[] cities = new int[CHUNK];
+        // 1 = teslim edildi
+        final long[] delivered = new long[CHUNK / 64];
+    }
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+    // Geliş numarası -> satır + 1 (0 = satır yok), kilitle korunur
+    private final ArrivalInts rows = new ArrivalInts();
+
+    @Override
+    public synchronized void onShipmentAdded(Customer owner, Shipment s) {
+        int row = size;
+        int c = row >>> CHUNK_BITS;
+        Chunk[] cs = chunks;
+        if(c == cs.length) {
+            cs = Arrays.copyOf(cs, c + 1);
+            cs[c] = new Chunk();
+            chunks = cs;
+        }
+        Chunk chunk = cs[c];
+        int i = row & MASK;
+        chunk.ids[i] = s.shipmentID;
+        chunk.dates[i] = s.date;
+        chunk.deliveryTimes[i] = s.deliveryTime;
+        chunk.cities[i] = s.cityOrdinal;
+        if(s.delivered) chunk.delivered[i >>> 6] |= 1L << i;
+        // Müşteriye eklenmemiş gönderinin (arrival < 0) teslim olayı gelmez, eşleme tutulmaz
+        if(s.arrival >= 0) rows.set(s.arrival, row + 1);
+        size = row + 1;
+    }
+
+    @Override
+    public synchronized void onDeliveryChanged(Customer owner, Shipment s) {
+        if(s.arrival < 0) return;
+        int row = rows.get(s.arrival) - 1;
+        if(row < 0) return;
+        Chunk chunk = chunks[row >>> CHUNK_BITS];
+        int i = row & MASK;
+        if(s.delivered) chunk.delivered[i >>> 6] |= 1L << i;
+        else chunk.delivered[i >>> 6] &= ~(1L << i);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Teslim edilmemiş gönderi sayısı (bit kümesinde kelime başına bitCount)
+    public long undeliveredCount() {
+        int n = size;
+        Chunk[] cs = chunks;
+        return IntStream.range(0, chunkCount(n)).parallel().mapToLong(c -> {
+            long[] words = cs[c].delivered;
+            int rows = rowsIn(c, n);
+            long deliveredRows = 0;
+            int full = rows >>> 6;
+            for(int w = 0; w < full; w++) {
+                deliveredRows += Long.bitCount(words[w]);
+            }
+            if((rows & 63) != 0) {
+                deliveredRows += Long.bitCount(words[full] & ((1L << rows) - 1));
+            }
+            return rows - deliveredRows;
+        }).sum();
+    }
+
+    // Şehir sıra no (CityTable) -> teslim edilmemiş gönderi sayısı
+    public long[] undeliveredByCity() {
+        int n = size;
+        Chunk[] cs = chunks;
+        int cityCount = CityTable.size();
+        return IntStream.range(0, chunkCount(n)).parallel().mapToObj(c -> {
+            long[] counts = new long[cityCount];
+            Chunk chunk = cs[c];
+            int rows = rowsIn(c, n);
+            // Sadece teslim edilmemiş (0) bitleri gez
+            for(int w = 0; w << 6 < rows; w++) {
+                long bits = ~chunk.delivered[w];
+                int left = rows - (w << 6);
+                if(left < 64) bits &= (1L << left) - 1;
+                while(bits != 0) {
+                    counts[chunk.cities[(w << 6) + Long.numberOfTrailingZeros(bits)]]++;
+                    bits &= bits - 1;
+                }
+            }
+            return counts;
+        }).reduce(ShipmentColumns::addInto).orElseGet(() -> new long[cityCount]);
+    }
+
+    // Şehir sıra no -> ortalama teslim süresi (gün), o şehre gönderi yoksa NaN
+    public double[] averageDeliveryTimeByCity() {
+        int n = size;
+        Chunk[] cs = chunks;
+        int cityCount = CityTable.size();
+        // [0..C) toplam süre, [C..2C) adet
+        long[] totals = IntStream.range(0, chunkCount(n)).parallel().mapToObj(c -> {
+            long[] acc = new long[cityCount * 2];
+            Chunk chunk = cs[c];
+            int rows = rowsIn(c, n);
+            int[] cities = chunk.cities;
+            int[] times = chunk.deliveryTimes;
+            for(int i = 0; i < rows; i++) {
+                acc[cities[i]] += times[i];
+                acc[cityCount + cities[i]]++;
+            }
+            return acc;
+        }).reduce(ShipmentColumns::addInto).orElseGet(() -> new long[cityCount * 2]);
+        double[] avg = new double[cityCount];
+        for(int city = 0; city < cityCount; city++) {
+            long count = totals[cityCount + city];
+            avg[city] = count == 0 ? Double.NaN : (double) totals[city] / count;
+        }
+        return avg;
+    }
+
+    // shipmentsPerDay'in en geniş aralığı (gün anahtarı olarak 10 yıl): parça başına sayaç dizisi ~30 KB ile sınırlı
+    static final int MAX_DAY_SPAN = 10 * 12 * 31;
+
+    // [fromDate, toDate] (YYYYMMDD, uçlar dahil) aralığında gün başına gönderi sayısı, sadece sıfır olmayan günler
+    // Sayaçlar YYYYMMDD yerine sıkı gün anahtarıyla (ay başına 31 gün) indekslenir; aralık en fazla 10 yıl
+    public SortedMap<Integer, Long> shipmentsPerDay(int fromDate, int toDate) {
+        int from = dayKey(fromDate);
+        int span = dayKey(toDate) - from + 1;
+        if(toDate < fromDate || span > MAX_DAY_SPAN) {
+            throw new IllegalArgumentException("Geçersiz tarih aralığı (en fazla 10 yıl): " + fromDate + " - " + toDate);
+        }
+        int n = size;
+        Chunk[] cs = chunks;
+        long[] counts = IntStream.range(0, chunkCount(n)).parallel().mapToObj(c -> {
+            long[] acc = new long[span];
+            int[] dates = cs[c].dates;
+            int rows = rowsIn(c, n);
+            for(int i = 0; i < rows; i++) {
+                int d = dayKey(dates[i]) - from;
+                // Tek karşılaştırma ile aralık kontrolü (d < 0 işaretsizde çok büyük olur)
+                if(Integer.compareUnsigned(d, span) < 0) acc[d]++;
+            }
+            return acc;
+        }).reduce(ShipmentColumns::addInto).orElseGet(() -> new long[span]);
+        TreeMap<Integer, Long> perDay = new TreeMap<>();
+        for(int d = 0; d < span; d++) {
+            if(counts[d] != 0) perDay.put(dateOf(from + d), counts[d]);
+        }
+        return perDay;
+    }
+
+    // YYYYMMDD -> sıkı gün anahtarı (yıl * 372 + (ay - 1) * 31 + gün - 1); tarih sırasını korur
+    private static int dayKey(int date) {
+        return ((date / 10000) * 12 + (date / 100 % 100) - 1) * 31 + date % 100 - 1;
+    }
+
+    private static int dateOf(int key) {
+        return (key / 372) * 10000 + (key / 31 % 12 + 1) * 100 + key % 31 + 1;
+    }
+
+    private static int chunkCount(int n) {
+        return (n + MASK) >>> CHUNK_BITS;
+    }
+
+    private static int rowsIn(int chunk, int n) {
+        return Math.min(CHUNK, n - (chunk << CHUNK_BITS));
+    }
+
+    private static long[] addInto(long[] a, long[] b) {
+        for(int i = 0; i < a.length; i++) {
+            a[i] += b[i];
+        }
+        return a;
+    }
+}
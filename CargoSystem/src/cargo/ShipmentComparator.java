@@ -0,0 +1,14 @@
+package cargo;
+
+import java.util.*;
+
+// PriorityQueue kullanarak kargo önceliklendirme
+// Teslim süresine göre öncelik
+// Ekleme (offer) O(log n), çıkarma (poll) O(log n), n = PQ’deki eleman sayısı
+// Uzay karmaşıklığı: O(n)
+class ShipmentComparator implements Comparator<Shipment> {
+    @Override
+    public int compare(Shipment s1, Shipment s2) {
+        return Integer.compare(s1.deliveryTime, s2.deliveryTime);
+    }
+}
@@ -0,0 +1,136 @@
+package cargo;
+
+import java.util.*;
+
+// Müşterinin tarih sıralı gönderim geçmişi (skip list)
+// 0. seviye, eskisi gibi head'den başlayan tek yönlü listedir; üst seviyeler arama için kısayol
+// Ekleme: O(log n) beklenen, tarih aralığı sorgusu: O(log n + k)
+// Uzay karmaşıklığı: O(n) (düğüm başına beklenen 1/3 ek işaretçi)
+// Eşzamanlılık: insert/bulkLoad sahibi müşterinin yazma kilidiyle çağrılır (tek yazar).
+// head/next üzerinden gezen ve ceiling() çağıran okuyucular kilit almaz: üst seviyelerde eski
+// (null ya da daha önceki) bir işaretçi görmek sadece aşağı seviyeye erken inmek demektir,
+// 0. seviye her zaman tutarlı bir sıralı listedir.
+class ShipmentHistory {
+    static final int MAX_LEVEL = 32;
+
+    // 0. seviyedeki ilk düğüm
+    volatile ShipmentNode head;
+    volatile int size;
+
+    // headForward[k] = k. seviyedeki ilk düğüm (headForward[0] == head)
+    private final ShipmentNode[] headForward = new ShipmentNode[MAX_LEVEL];
+    // Ekleme sırasında her seviyedeki önceki düğüm (null = başlangıç), tekrar kullanılır
+    private final ShipmentNode[] update = new ShipmentNode[MAX_LEVEL];
+    private int level = 1;
+    private int seed = 0x2545F491;
+
+    // Gönderiyi tarihine göre yerleştirir
+    // Aynı tarihliler arasında yeni gönderi öne eklenir (eski linked list davranışı)
+    public void insert(Shipment s) {
+        ShipmentNode pred = null;
+        for(int k = level - 1; k >= 0; k--) {
+            ShipmentNode x = pred == null ? headForward[k] : nextAt(pred, k);
+            while(x != null && x.shipment.date < s.date) {
+                pred = x;
+                x = nextAt(x, k);
+            }
+            update[k] = pred;
+        }
+        int nodeLevel = randomLevel();
+        if(nodeLevel > level) {
+            for(int k = level; k < nodeLevel; k++) {
+                update[k] = null;
+            }
+            level = nodeLevel;
+        }
+        ShipmentNode node = new ShipmentNode(s, nodeLevel);
+        for(int k = 0; k < nodeLevel; k++) {
+            ShipmentNode p = update[k];
+            setNextAt(node, k, p == null ? headForward[k] : nextAt(p, k));
+            if(p == null) {
+                headForward[k] = node;
+            } else {
+                setNextAt(p, k, node);
+            }
+        }
+        head = headForward[0];
+        size++;
+    }
+
+    // Tarihi fromDate'ten küçük olmayan ilk düğüm
+    // Zaman karmaşıklığı: O(log n) beklenen
+    public ShipmentNode ceiling(int fromDate) {
+        ShipmentNode pred = null;
+        for(int k = level - 1; k >= 0; k--) {
+            ShipmentNode x = pred == null ? headForward[k] : nextAt(pred, k);
+            while(x != null && x.shipment.date < fromDate) {
+                pred = x;
+                x = nextAt(x, k);
+            }
+        }
+        return pred == null ? head : pred.next;
+    }
+
+    // [fromDate, toDate] aralığındaki gönderiler (uçlar dahil), tarih sırasıyla
+    // Zaman karmaşıklığı: O(log n + k), k = sonuç sayısı
+    public ArrayList<Shipment> range(int fromDate, int toDate) {
+        ArrayList<Shipment> result = new ArrayList<>();
+        ShipmentNode current = ceiling(fromDate);
+        while(current != null && current.shipment.date <= toDate) {
+            result.add(current.shipment);
+            current = current.next;
+        }
+        return result;
+    }
+
+    // Tarihe göre sıralı diziden boş geçmişi tek geçişte kurar (toplu içe aktarma için)
+    // sorted[from..to) artan tarih sırasında olmalı; geçmiş boş değilse tek tek eklenir
+    // Zaman karmaşıklığı: O(k) (boş geçmiş), Uzay: O(k)
+    public void bulkLoad(Shipment[] sorted, int from, int to) {
+        if(size > 0) {
+            for(int i = from; i < to; i++) {
+                insert(sorted[i]);
+            }
+            return;
+        }
+        // Her seviyedeki son düğüm (null = henüz yok)
+        ShipmentNode[] last = update;
+        Arrays.fill(last, null);
+        for(int i = from; i < to; i++) {
+            int nodeLevel = randomLevel();
+            ShipmentNode node = new ShipmentNode(sorted[i], nodeLevel);
+            if(nodeLevel > level) level = nodeLevel;
+            for(int k = 0; k < nodeLevel; k++) {
+                if(last[k] == null) headForward[k] = node;
+                else setNextAt(last[k], k, node);
+                last[k] = node;
+            }
+        }
+        head = headForward[0];
+        size += to - from;
+    }
+
+    private static ShipmentNode nextAt(ShipmentNode node, int k) {
+        return k == 0 ? node.next : node.forward[k - 1];
+    }
+
+    private static void setNextAt(ShipmentNode node, int k, ShipmentNode next) {
+        if(k == 0) node.next = next;
+        else node.forward[k - 1] = next;
+    }
+
+    // p = 1/4 ile geometrik seviye (xorshift, nesne oluşturmaz)
+    private int randomLevel() {
+        int x = seed;
+        x ^= x << 13;
+        x ^= x >>> 17;
+        x ^= x << 5;
+        seed = x;
+        int lvl = 1;
+        while(lvl < MAX_LEVEL && (x & 3) == 0) {
+            lvl++;
+            x >>>= 2;
+        }
+        return lvl;
+    }
+}
@@ -0,0 +1,198 @@
+package cargo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+// Gönderi ID -> gönderi (ve sahibi) global indeksi (yığın içi ShipmentLookup)
+// CustomerList'teki gibi open addressing (linear probing), aynı ID tekrar eklenirse en yenisi geçerli olur
+// Eşzamanlılık: ID'nin üst bitlerine göre 64 kesime (segment) bölünür; her kesimin yazma kilidi ayrıdır,
+// farklı müşterilerin eklemeleri çoğunlukla farklı kesimlere düşer. Sorgular kilitsizdir (CustomerList ile aynı
+// release/acquire yayınlama). Gönderi ve sahibi tek değişmez Entry olarak birlikte yayınlanır; aynı ID'nin
+// yerine yenisi yazılırken okuyucu yeni sahibi eski gönderiyle eşleştiremez.
+// Sorgu: O(1) ortalama, istek başına ek nesne oluşturmaz
+// Uzay karmaşıklığı: O(m), m = toplam gönderi sayısı (ekleme başına bir Entry)
+final class ShipmentIndex implements ShipmentLookup {
+    private static final int SEGMENT_BITS = 6;
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Entry[].class);
+
+    private final Segment[] segments = new Segment[1 << SEGMENT_BITS];
+    private final LongAdder deliveredCount = new LongAdder();
+
+    public ShipmentIndex() {
+        for(int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @Override
+    public void onShipmentAdded(Customer owner, Shipment s) {
+        int h = hash(s.shipmentID);
+        segmentFor(h).put(s, owner, h, deliveredCount);
+    }
+
+    @Override
+    public void onDeliveryChanged(Customer owner, Shipment s) {
+        int h = hash(s.shipmentID);
+        segmentFor(h).deliveryChanged(s, h, deliveredCount);
+    }
+
+    // ID'nin güncel kaydı (gönderi + sahibi), yoksa null
+    // Zaman karmaşıklığı: O(1) ortalama
+    @Override
+    public Entry entry(long shipmentID) {
+        int h = hash(shipmentID);
+        return Segment.find(segmentFor(h).table, shipmentID, h);
+    }
+
+    // ID ile gönderi bul
+    // Zaman karmaşıklığı: O(1) ortalama
+    @Override
+    public Shipment findShipment(long shipmentID) {
+        Entry e = entry(shipmentID);
+        return e == null ? null : e.shipment;
+    }
+
+    // Gönderinin sahibi olan müşteri
+    // Zaman karmaşıklığı: O(1) ortalama
+    @Override
+    public Customer ownerOf(long shipmentID) {
+        Entry e = entry(shipmentID);
+        return e == null ? null : e.owner;
+    }
+
+    // Farklı gönderi ID sayısı
+    // Zaman karmaşıklığı: O(kesim sayısı)
+    @Override
+    public int size() {
+        int n = 0;
+        for(Segment seg : segments) {
+            n += seg.size;
+        }
+        return n;
+    }
+
+    // İndeksteki güncel kayıtlardan teslim edilmiş olanların sayısı
+    @Override
+    public long deliveredCount() {
+        return deliveredCount.sum();
+    }
+
+    // Toplu eklemeden önce tabloyu büyütür (ekleme sırasında tekrar tekrar rehash olmasın)
+    // Zaman karmaşıklığı: O(m) tek seferlik
+    @Override
+    public void ensureCapacity(int expectedSize) {
+        // Kesimlere düzgün dağılım + %25 pay
+        int perSegment = expectedSize / segments.length + expectedSize / (segments.length * 4) + 16;
+        for(Segment seg : segments) {
+            seg.ensureCapacity(perSegment);
+        }
+    }
+
+    private Segment segmentFor(int h) {
+        return segments[h >>> (32 - SEGMENT_BITS)];
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Segment {
+        static final class Table {
+            final Entry[] slots;
+            final int[] hashes;
+
+            Table(int capacity) {
+                slots = new Entry[capacity];
+                hashes = new int[capacity];
+            }
+        }
+
+        volatile Table table = new Table(16);
+        volatile int size;
+
+        // ID'nin kaydı, yoksa null (kilitsiz)
+        static Entry find(Table t, long shipmentID, int h) {
+            int mask = t.slots.length - 1;
+            int i = h & mask;
+            Entry e;
+            while((e = (Entry) SLOTS.getAcquire(t.slots, i)) != null) {
+                if(t.hashes[i] == h && e.shipment.shipmentID == shipmentID) {
+                    return e;
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        // ID'nin slotu, yoksa -1 (kesim kilidiyle)
+        static int indexOf(Table t, long shipmentID, int h) {
+            int mask = t.slots.length - 1;
+            int i = h & mask;
+            Entry e;
+            while((e = (Entry) SLOTS.getAcquire(t.slots, i)) != null) {
+                if(t.hashes[i] == h && e.shipment.shipmentID == shipmentID) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        synchronized void put(Shipment s, Customer owner, int h, LongAdder delivered) {
+            int i = indexOf(table, s.shipmentID, h);
+            if(i >= 0) {
+                // Aynı ID: eski kaydın yerine yenisini yaz
+                if(table.slots[i].shipment.delivered) delivered.decrement();
+            } else {
+                if((size + 1) * 2 > table.slots.length) {
+                    resize(table.slots.length * 2);
+                }
+                i = freeSlot(table, h);
+                table.hashes[i] = h;
+                size++;
+            }
+            SLOTS.setRelease(table.slots, i, new Entry(s, owner));
+            if(s.delivered) delivered.increment();
+        }
+
+        synchronized void deliveryChanged(Shipment s, int h, LongAdder delivered) {
+            // Sadece indeksteki güncel kayıt sayılır
+            Entry e = find(table, s.shipmentID, h);
+            if(e == null || e.shipment != s) return;
+            if(s.delivered) delivered.increment();
+            else delivered.decrement();
+        }
+
+        synchronized void ensureCapacity(int expected) {
+            int cap = table.slots.length;
+            while(expected * 2 > cap) {
+                cap *= 2;
+            }
+            if(cap != table.slots.length) resize(cap);
+        }
+
+        private static int freeSlot(Table t, int h) {
+            int mask = t.slots.length - 1;
+            int i = h & mask;
+            while(t.slots[i] != null) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        // Yeni tabloyu tamamen kurup tek volatile yazımla yayınlar
+        private void resize(int capacity) {
+            Table old = table;
+            Table grown = new Table(capacity);
+            for(int j = 0; j < old.slots.length; j++) {
+                if(old.slots[j] == null) continue;
+                int i = freeSlot(grown, old.hashes[j]);
+                grown.slots[i] = old.slots[j];
+                grown.hashes[i] = old.hashes[j];
+            }
+            table = grown;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package cargo;
+
+// Gönderi ekleme ve teslim durumu değişikliklerini dinleyen yapılar (örn. global ID indeksi)
+interface ShipmentListener {
+    void onShipmentAdded(Customer owner, Shipment s);
+    void onDeliveryChanged(Customer owner, Shipment s);
+}
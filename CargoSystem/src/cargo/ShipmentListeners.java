@@ -0,0 +1,33 @@
+package cargo;
+
+import java.util.*;
+
+// Olayları sırayla birden fazla dinleyiciye iletir
+// Dinleyici dizisi kopyala-yaz (copy-on-write): olay iletimi kilitsizdir
+class ShipmentListeners implements ShipmentListener {
+    private volatile ShipmentListener[] listeners;
+
+    public ShipmentListeners(ShipmentListener... listeners) {
+        this.listeners = listeners.clone();
+    }
+
+    public synchronized void add(ShipmentListener listener) {
+        ShipmentListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[next.length - 1] = listener;
+        listeners = next;
+    }
+
+    @Override
+    public void onShipmentAdded(Customer owner, Shipment s) {
+        for(ShipmentListener l : listeners) {
+            l.onShipmentAdded(owner, s);
+        }
+    }
+
+    @Override
+    public void onDeliveryChanged(Customer owner, Shipment s) {
+        for(ShipmentListener l : listeners) {
+            l.onDeliveryChanged(owner, s);
+        }
+    }
+}
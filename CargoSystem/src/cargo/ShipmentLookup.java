@@ -0,0 +1,36 @@
+package cargo;
+
+// Gönderi ID -> gönderi ve sahibi global sorgusu
+// Yığın içi (ShipmentIndex) ve yığın dışı (OffHeapShipmentIndex) indeksler uygular; ShipmentListener olarak
+// müşterilerin ekleme/teslim olaylarıyla güncellenir. Sorgular kilitsizdir, aynı ID tekrar eklenirse en
+// yenisi geçerlidir.
+interface ShipmentLookup extends ShipmentListener {
+    // Gönderi ve sahibi (birlikte okunmalı: ayrı findShipment + ownerOf çağrıları arasında kayıt değişebilir)
+    final class Entry {
+        final Shipment shipment;
+        final Customer owner;
+
+        Entry(Shipment shipment, Customer owner) {
+            this.shipment = shipment;
+            this.owner = owner;
+        }
+    }
+
+    // ID'nin güncel kaydı (gönderi + sahibi), yoksa null
+    Entry entry(long shipmentID);
+
+    // ID ile gönderi, yoksa null
+    Shipment findShipment(long shipmentID);
+
+    // Gönderinin sahibi olan müşteri, yoksa null
+    Customer ownerOf(long shipmentID);
+
+    // Farklı gönderi ID sayısı
+    int size();
+
+    // İndeksteki güncel kayıtlardan teslim edilmiş olanların sayısı
+    long deliveredCount();
+
+    // Toplu eklemeden önce tabloyu büyütür (ekleme sırasında tekrar tekrar rehash olmasın)
+    void ensureCapacity(int expectedSize);
+}
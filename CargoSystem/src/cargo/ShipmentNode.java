@@ -0,0 +1,21 @@
+package cargo;
+
+// Linked list için düğüm (Müşterinin gönderim geçmişi)
+// next = skip list'in 0. seviyesi (tarih sırasıyla tüm gönderiler),
+// forward[k-1] = k. seviyedeki sonraki düğüm (düğümlerin çoğunda null)
+// shipment ve forward final: düğüme herhangi bir işaretçiden ulaşan okuyucu ikisini de dolu görür.
+// next volatile: düğüm önce kendi next'i ile kurulur, sonra öncekinin next'ine yazılarak yayınlanır.
+class ShipmentNode
+{
+    final Shipment shipment;
+    volatile ShipmentNode next;
+    final ShipmentNode[] forward;
+    public ShipmentNode(Shipment s) {
+        this(s, 1);
+    }
+
+    public ShipmentNode(Shipment s, int levels) {
+        this.shipment = s;
+        this.forward = levels > 1 ? new ShipmentNode[levels - 1] : null;
+    }
+}
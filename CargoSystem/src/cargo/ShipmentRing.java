@@ -0,0 +1,59 @@
+package cargo;
+
+// Son N gönderi için sabit kapasiteli halka tampon (ring buffer)
+// Dolu iken yeni eleman en eskisinin üzerine yazılır, kopyalama ve nesne oluşturma yok
+// push: O(1), get: O(1)
+// Uzay karmaşıklığı: O(N)
+class ShipmentRing {
+    private final Shipment[] items;
+    private int next; // bir sonraki yazılacak indeks
+    private int size;
+
+    public ShipmentRing(int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Kapasite en az 1 olmalı: " + capacity);
+        }
+        this.items = new Shipment[capacity];
+    }
+
+    public void push(Shipment s) {
+        items[next] = s;
+        next = next + 1 == items.length ? 0 : next + 1;
+        if(size < items.length) size++;
+    }
+
+    // i = 0 en yeni, i = size-1 en eski
+    public Shipment get(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+        }
+        int idx = next - 1 - i;
+        return items[idx < 0 ? idx + items.length : idx];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return items.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // En yeniden en eskiye out'a kopyalar, kopyalanan sayıyı döndürür (out.length >= capacity)
+    // Eşzamanlı push ile yarışırsa hata atmaz, sadece tutarsız bir kopya verir;
+    // çağıran (Customer.lastShipments) bu durumu kilit damgasıyla algılayıp tekrarlar.
+    // Zaman karmaşıklığı: O(N)
+    int copyTo(Shipment[] out) {
+        int n = Math.min(size, items.length);
+        int idx = next;
+        for(int i = 0; i < n; i++) {
+            idx = idx == 0 ? items.length - 1 : idx - 1;
+            out[i] = items[idx];
+        }
+        return n;
+    }
+}
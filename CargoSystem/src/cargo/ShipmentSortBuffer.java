@@ -0,0 +1,72 @@
+package cargo;
+
+import java.util.*;
+
+// Sıralama için tekrar kullanılabilen gönderi dizisi + yardımcı dizi + sayaç dizileri
+// Her istekte yeni liste oluşturmamak için tampon saklanıp clear() ile tekrar kullanılır
+class ShipmentSortBuffer {
+    Shipment[] items = new Shipment[16];
+    int size;
+    private Shipment[] scratch = new Shipment[16];
+    private int[] counts = new int[0];
+    private int[][] chunkCounts = new int[0][];
+
+    public void add(Shipment s) {
+        if(size == items.length) {
+            items = Arrays.copyOf(items, size * 2);
+        }
+        items[size++] = s;
+    }
+
+    public Shipment get(int i) {
+        return items[i];
+    }
+
+    // Referansları bırakır (GC için), dizileri korur
+    public void clear() {
+        Arrays.fill(items, 0, size, null);
+        Arrays.fill(scratch, 0, Math.min(size, scratch.length), null);
+        size = 0;
+    }
+
+    Shipment[] scratch() {
+        if(scratch.length < items.length) {
+            scratch = new Shipment[items.length];
+        }
+        return scratch;
+    }
+
+    // Sayma sıralaması için sıfırlanmış en az range+1 uzunlukta sayaç dizisi
+    int[] counts(int range) {
+        if(counts.length < range + 1) {
+            counts = new int[range + 1];
+        } else {
+            Arrays.fill(counts, 0, range + 1, 0);
+        }
+        return counts;
+    }
+
+    // Paralel sayma sıralaması için chunks adet sıfırlanmış, en az range uzunlukta sayaç dizisi
+    // Dönen dizinin uzunluğu tam olarak chunks'tır (parça sayısı değişirse dış dizi yeniden kurulur)
+    int[][] chunkCounts(int chunks, int range) {
+        if(chunkCounts.length != chunks) {
+            int[][] next = new int[chunks][];
+            System.arraycopy(chunkCounts, 0, next, 0, Math.min(chunks, chunkCounts.length));
+            chunkCounts = next;
+        }
+        for(int c = 0; c < chunks; c++) {
+            if(chunkCounts[c] == null || chunkCounts[c].length < range) {
+                chunkCounts[c] = new int[range];
+            } else {
+                Arrays.fill(chunkCounts[c], 0, range, 0);
+            }
+        }
+        return chunkCounts;
+    }
+
+    void swap() {
+        Shipment[] t = items;
+        items = scratch;
+        scratch = t;
+    }
+}
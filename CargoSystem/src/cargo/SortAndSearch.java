@@ -0,0 +1,210 @@
+package cargo;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Sorting & Searching
+class SortAndSearch {
+    // Merge Sort (teslim edilmeyen kargolar için)
+    // Zaman karmaşıklığı: O(n log n)
+    // Uzay karmaşıklığı: O(n) -> yardimci listeler
+    public static void mergeSort(ArrayList<Shipment> arr) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        mergeSortList(arr);
+        if(CargoMetrics.ENABLED) {
+            CargoMetrics.SORT_MERGE_LIST.record(System.nanoTime() - t0);
+            CargoMetrics.SORTED_ELEMENTS.add(arr.size());
+        }
+    }
+
+    private static void mergeSortList(ArrayList<Shipment> arr) {
+        if (arr.size() <= 1) return;
+        int mid = arr.size()/2;
+        ArrayList<Shipment> left = new ArrayList<>(arr.subList(0, mid));
+        ArrayList<Shipment> right = new ArrayList<>(arr.subList(mid, arr.size()));
+        mergeSortList(left);
+        mergeSortList(right);
+        merge(arr, left, right);
+    }
+
+    private static void merge(ArrayList<Shipment> arr, ArrayList<Shipment> left, ArrayList<Shipment> right) {
+        arr.clear();
+        int i=0,j=0;
+        while(i<left.size() && j<right.size()) {
+            if(left.get(i).deliveryTime <= right.get(j).deliveryTime) {
+                arr.add(left.get(i));
+                i++;
+            } else {
+                arr.add(right.get(j));
+                j++;
+            }
+        }
+        while(i<left.size()) {
+            arr.add(left.get(i)); i++;
+        }
+        while(j<right.size()) {
+            arr.add(right.get(j)); j++;
+        }
+    }
+
+    // Bu boyuttan büyük girdiler fork-join ile paralel sıralanır
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    // Anahtar aralığı bundan küçükse sayma sıralaması kullanılır (küçük girdilerde aralık n'den küçükse de)
+    // Paralel sayma sıralaması parça başına range'lik sayaç tuttuğu için sadece bu sınırın altında seçilir
+    static final int COUNTING_RANGE_LIMIT = 1 << 12;
+    private static final int INSERTION_THRESHOLD = 32;
+
+    // Tampondaki gönderileri teslim süresine göre kararlı (stable) sıralar, ara bellek tamponda tekrar kullanılır
+    // deliveryTime aralığı küçük olduğundan genelde sayma sıralaması: O(n + r), r = anahtar aralığı
+    // Aralık büyükse yardımcı dizili merge sort: O(n log n); büyük girdilerde paralel sürümler
+    // Uzay karmaşıklığı: tampon büyüdüğünde O(n), sonraki çağrılarda ek bellek yok
+    // Not: menü 6 ve UNDELIVERED artık sıralı UndeliveredView'u okur; bu metot üretimde çağrılmaz,
+    // SortAndSearchBenchmark'ta sıralama tabanı olarak tutulur.
+    public static void sortByDeliveryTime(ShipmentSortBuffer buf) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        sortBuffer(buf);
+        if(CargoMetrics.ENABLED) {
+            CargoMetrics.SORT_DELIVERY.record(System.nanoTime() - t0);
+            CargoMetrics.SORTED_ELEMENTS.add(buf.size);
+        }
+    }
+
+    private static void sortBuffer(ShipmentSortBuffer buf) {
+        int n = buf.size;
+        if(n <= 1) return;
+        Shipment[] a = buf.items;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for(int i = 0; i < n; i++) {
+            int t = a[i].deliveryTime;
+            if(t < min) min = t;
+            if(t > max) max = t;
+        }
+        Shipment[] scratch = buf.scratch();
+        long range = (long) max - min + 1;
+        if(n >= PARALLEL_THRESHOLD) {
+            if(range <= COUNTING_RANGE_LIMIT) {
+                int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism() * 4, n / 8192));
+                parallelCountingSort(a, scratch, n, min, (int) range, buf.chunkCounts(chunks, (int) range));
+                // Sonuç scratch'te: dizileri takas et (kopyalama yok)
+                buf.swap();
+            } else {
+                ForkJoinPool.commonPool().invoke(new ParallelMergeSortTask(a, scratch, 0, n));
+            }
+        } else if(range <= COUNTING_RANGE_LIMIT || range <= n) {
+            countingSort(a, scratch, n, min, (int) range, buf.counts((int) range));
+            buf.swap();
+        } else {
+            mergeSortRange(a, scratch, 0, n);
+        }
+    }
+
+    // Kararlı sayma sıralaması: a[0..n) -> out[0..n), counts[0..range] sıfır olmalı
+    private static void countingSort(Shipment[] a, Shipment[] out, int n, int min, int range, int[] counts) {
+        for(int i = 0; i < n; i++) {
+            counts[a[i].deliveryTime - min + 1]++;
+        }
+        for(int k = 1; k <= range; k++) {
+            counts[k] += counts[k - 1];
+        }
+        for(int i = 0; i < n; i++) {
+            out[counts[a[i].deliveryTime - min]++] = a[i];
+        }
+    }
+
+    // Paralel kararlı sayma sıralaması: parça başına histogram, sıralı önek toplamı, parça başına yerleştirme
+    // Parçalar kendi içinde sırayla yazdığı ve önek toplamı parça sırasına göre olduğu için kararlıdır
+    // counts: parça başına sıfırlanmış sayaç (counts.length parça, range <= COUNTING_RANGE_LIMIT)
+    private static void parallelCountingSort(Shipment[] a, Shipment[] out, int n, int min, int range, int[][] counts) {
+        int chunks = counts.length;
+        int chunkSize = (n + chunks - 1) / chunks;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] cnt = counts[c];
+            int end = Math.min(n, (c + 1) * chunkSize);
+            for(int i = c * chunkSize; i < end; i++) {
+                cnt[a[i].deliveryTime - min]++;
+            }
+        });
+        int pos = 0;
+        for(int k = 0; k < range; k++) {
+            for(int c = 0; c < chunks; c++) {
+                int cnt = counts[c][k];
+                counts[c][k] = pos;
+                pos += cnt;
+            }
+        }
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int[] next = counts[c];
+            int end = Math.min(n, (c + 1) * chunkSize);
+            for(int i = c * chunkSize; i < end; i++) {
+                out[next[a[i].deliveryTime - min]++] = a[i];
+            }
+        });
+    }
+
+    // a[lo..hi) aralığını scratch kullanarak kararlı sıralar (yeni liste oluşturmaz)
+    // Zaman karmaşıklığı: O(n log n), Uzay: scratch dışında O(log n) recursion
+    static void mergeSortRange(Shipment[] a, Shipment[] scratch, int lo, int hi) {
+        if(hi - lo <= INSERTION_THRESHOLD) {
+            insertionSort(a, lo, hi);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSortRange(a, scratch, lo, mid);
+        mergeSortRange(a, scratch, mid, hi);
+        mergeHalves(a, scratch, lo, mid, hi);
+    }
+
+    // Sıralı a[lo..mid) ve a[mid..hi) yarılarını birleştirir; sol yarı scratch'e kopyalanır
+    static void mergeHalves(Shipment[] a, Shipment[] scratch, int lo, int mid, int hi) {
+        // Zaten sıralıysa birleştirmeye gerek yok
+        if(a[mid - 1].deliveryTime <= a[mid].deliveryTime) return;
+        System.arraycopy(a, lo, scratch, lo, mid - lo);
+        int i = lo, j = mid, k = lo;
+        while(i < mid && j < hi) {
+            if(scratch[i].deliveryTime <= a[j].deliveryTime) {
+                a[k++] = scratch[i++];
+            } else {
+                a[k++] = a[j++];
+            }
+        }
+        while(i < mid) {
+            a[k++] = scratch[i++];
+        }
+    }
+
+    private static void insertionSort(Shipment[] a, int lo, int hi) {
+        for(int i = lo + 1; i < hi; i++) {
+            Shipment x = a[i];
+            int j = i - 1;
+            while(j >= lo && a[j].deliveryTime > x.deliveryTime) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = x;
+        }
+    }
+
+    // Binary Search (teslim edilmiş kargolar ID'ye göre sıralı listede aranacak)
+    // Zaman karmaşıklığı: O(log n)
+    // Uzay karmaşıklığı: O(1)
+    public static int binarySearchByID(ArrayList<Shipment> arr, long targetID) {
+        long t0 = CargoMetrics.ENABLED ? System.nanoTime() : 0;
+        int i = binarySearch(arr, targetID);
+        if(CargoMetrics.ENABLED) CargoMetrics.SEARCH_BY_ID.record(System.nanoTime() - t0);
+        return i;
+    }
+
+    private static int binarySearch(ArrayList<Shipment> arr, long targetID) {
+        int low=0;
+        int high=arr.size()-1;
+        while(low<=high) {
+            int mid=(low+high)/2;
+            int cmp = Long.compare(arr.get(mid).shipmentID, targetID);
+            if(cmp==0) return mid;
+            else if(cmp<0) low=mid+1;
+            else high=mid-1;
+        }
+        return -1;
+    }
+}
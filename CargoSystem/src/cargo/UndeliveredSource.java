@@ -0,0 +1,22 @@
+package cargo;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+// Teslim edilmemiş gönderilerin teslim süresine (eşitlerde ekleme sırasına) göre sıralı, canlı görünümü
+// Yığın içi (UndeliveredView) ve yığın dışı (OffHeapUndeliveredView) görünümler uygular; ShipmentListener
+// olarak artımlı güncellenir, listeleme baştan tarama/sıralama yapmaz.
+interface UndeliveredSource extends ShipmentListener {
+    int size();
+
+    // Sırayla tüm gönderileri ziyaret eder
+    default void forEach(Consumer<Shipment> action) {
+        forEach(0, Integer.MAX_VALUE, action);
+    }
+
+    // Sayfalı listeleme: sıradaki offset. gönderiden başlayarak en fazla limit gönderi
+    void forEach(int offset, int limit, Consumer<Shipment> action);
+
+    // Listeyi kopyalamadan akış halinde gezer (eşzamanlı yazanlar varsa forEach kullanılmalı)
+    Iterator<Shipment> iterator();
+}
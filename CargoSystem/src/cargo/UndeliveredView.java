@@ -0,0 +1,110 @@
+package cargo;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// Teslim edilmemiş gönderilerin teslim süresine göre sıralı, canlı görünümü (yığın içi UndeliveredSource)
+// Gönderi ekleme ve teslim durumu değişiklikleri ShipmentListener olarak artımlı işlenir;
+// listeleme baştan tarama/sıralama yapmaz.
+// Her teslim süresi için geliş numaraları (Shipment.arrival) üzerinden çift yönlü bağlı bir kova (ArrivalBuckets);
+// aynı süredekiler görünüme giriş sırasıyla listelenir. Numara -> gönderi eşlemesi de geliş numarasıyla
+// indekslenen parçalı dizide tutulur; gönderi nesnesi görünüme ait alan taşımaz.
+// Ekleme / çıkarma: O(1), listeleme: O(k + C), k = listelenen, C = kova sayısı (küçük)
+// Uzay karmaşıklığı: O(C) + görünüme giren gönderi başına ~12 byte (bağlar + referans, parçalı)
+// Eşzamanlılık: tüm işlemler görünümün kilidiyle sıralanır (çift yönlü bağlar kilitsiz okunamaz);
+// dinleyici çağrıları müşteri kilidinin içinden gelir, görünüm kilidi hiçbir zaman müşteri kilidini beklemez.
+// Gönderiler bir müşteriye eklenmiş (arrival atanmış) olmalıdır.
+final class UndeliveredView implements UndeliveredSource {
+    private final ArrivalBuckets buckets = new ArrivalBuckets();
+    // Geliş numarası -> gönderi (ArrivalInts ile aynı parça düzeni)
+    private Shipment[][] members = new Shipment[16][];
+
+    @Override
+    public synchronized void onShipmentAdded(Customer owner, Shipment s) {
+        if(!s.delivered) add(s);
+    }
+
+    @Override
+    public synchronized void onDeliveryChanged(Customer owner, Shipment s) {
+        if(s.delivered) {
+            if(buckets.remove(s.arrival, s.deliveryTime)) setMember(s.arrival, null);
+        } else {
+            add(s);
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return buckets.size();
+    }
+
+    // Zaman karmaşıklığı: O(offset + limit + C); ardışık sayfalar için iterator daha ucuzdur
+    @Override
+    public synchronized void forEach(int offset, int limit, Consumer<Shipment> action) {
+        int skipped = 0;
+        int emitted = 0;
+        for(int t = 0; t < buckets.levels() && emitted < limit; t++) {
+            for(int id = buckets.first(t); id >= 0 && emitted < limit; id = buckets.next(id)) {
+                if(skipped < offset) {
+                    skipped++;
+                } else {
+                    action.accept(member(id));
+                    emitted++;
+                }
+            }
+        }
+    }
+
+    // Görünüm değişirse davranış tanımsız
+    @Override
+    public Iterator<Shipment> iterator() {
+        return new Iterator<Shipment>() {
+            private int bucket = -1;
+            private int upcoming = advance(-1);
+
+            private int advance(int current) {
+                if(current >= 0) {
+                    int following = buckets.next(current);
+                    if(following >= 0) return following;
+                }
+                while(++bucket < buckets.levels()) {
+                    int first = buckets.first(bucket);
+                    if(first >= 0) return first;
+                }
+                return -1;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return upcoming >= 0;
+            }
+
+            @Override
+            public Shipment next() {
+                if(upcoming < 0) throw new NoSuchElementException();
+                int id = upcoming;
+                upcoming = advance(id);
+                return member(id);
+            }
+        };
+    }
+
+    private void add(Shipment s) {
+        if(buckets.add(s.arrival, s.deliveryTime)) setMember(s.arrival, s);
+    }
+
+    private Shipment member(int arrival) {
+        return members[arrival >>> ArrivalInts.CHUNK_BITS][arrival & ArrivalInts.CHUNK_MASK];
+    }
+
+    private void setMember(int arrival, Shipment s) {
+        int c = arrival >>> ArrivalInts.CHUNK_BITS;
+        if(c >= members.length) {
+            members = Arrays.copyOf(members, Math.max(c + 1, members.length * 2));
+        }
+        if(members[c] == null) {
+            members[c] = new Shipment[1 << ArrivalInts.CHUNK_BITS];
+        }
+        members[c][arrival & ArrivalInts.CHUNK_MASK] = s;
+    }
+}
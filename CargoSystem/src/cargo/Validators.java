@@ -0,0 +1,105 @@
+package cargo;
+
+import java.nio.ByteBuffer;
+
+// Girdi doğrulamaları: regex / Pattern yok, karakter karakter tarama, nesne oluşturmaz
+// Menü girişleri (String), toplu içe aktarma (mapped ByteBuffer) ve ağ girişleri için ortak
+// Tüm kontroller: O(uzunluk), Uzay: O(1)
+final class Validators {
+    // long'a sığan en uzun rakam dizisi
+    static final int MAX_ID_DIGITS = 18;
+
+    private Validators() {
+    }
+
+    // Boş olmayan, sadece 0-9 rakamlarından oluşan dizi mi
+    static boolean isDigits(CharSequence s) {
+        int n = s.length();
+        if(n == 0) return false;
+        for(int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if(c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    // 1-18 haneli rakam dizisinin değeri, geçersizse -1
+    static long parseDigits(CharSequence s, int from, int to) {
+        if(to <= from || to - from > MAX_ID_DIGITS) return -1;
+        long v = 0;
+        for(int i = from; i < to; i++) {
+            int d = s.charAt(i) - '0';
+            if(d < 0 || d > 9) return -1;
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    static long parseDigits(ByteBuffer buf, int from, int to) {
+        if(to <= from || to - from > MAX_ID_DIGITS) return -1;
+        long v = 0;
+        for(int i = from; i < to; i++) {
+            int d = buf.get(i) - '0';
+            if(d < 0 || d > 9) return -1;
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    // İsim: Latin ve Türkçe harfler ile boşluk, en az bir karakter
+    static boolean isValidName(CharSequence s) {
+        int n = s.length();
+        if(n == 0) return false;
+        for(int i = 0; i < n; i++) {
+            if(!isNameChar(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    static boolean isNameChar(char c) {
+        if((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == ' ') return true;
+        switch(c) {
+            case 'Ç': case 'ç': case 'Ğ': case 'ğ': case 'İ': case 'ı':
+            case 'Ö': case 'ö': case 'Ş': case 'ş': case 'Ü': case 'ü':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // YYYYMMDD tarihinin int değeri, 8 rakam değilse veya takvimde yoksa (örn. 20230229, 20240231) -1
+    static int parseDate(CharSequence s) {
+        if(s.length() != 8) return -1;
+        long v = parseDigits(s, 0, 8);
+        return v < 0 ? -1 : checkDate((int) v);
+    }
+
+    static int parseDate(ByteBuffer buf, int from, int to) {
+        if(to - from != 8) return -1;
+        long v = parseDigits(buf, from, to);
+        return v < 0 ? -1 : checkDate((int) v);
+    }
+
+    static boolean isValidDate(int year, int month, int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month);
+    }
+
+    static int daysInMonth(int year, int month) {
+        switch(month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static int checkDate(int yyyymmdd) {
+        return isValidDate(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100) ? yyyymmdd : -1;
+    }
+}
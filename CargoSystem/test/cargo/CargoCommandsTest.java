@@ -0,0 +1,96 @@
+package cargo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Satır protokolünün ayrıştırma ve hata yanıtları (sunucu olmadan, doğrudan execute)
+class CargoCommandsTest {
+    private CargoCommands commands;
+
+    @BeforeEach
+    void setUp() {
+        RouteTree routeTree = new RouteTree("Istanbul", "IST01");
+        RouteNode bursa = new RouteNode("Bursa", "BRS16");
+        routeTree.root.addChild(bursa);
+        bursa.addChild(new RouteNode("Kocaeli", "KOC41"));
+        ShipmentIndex index = new ShipmentIndex();
+        UndeliveredView undelivered = new UndeliveredView();
+        HistoryRenderCache cache = new HistoryRenderCache(1 << 20);
+        commands = new CargoCommands(new CustomerList(), index, undelivered,
+                new ShipmentListeners(index, undelivered, cache), routeTree, new BucketDispatchQueue(),
+                cache, new DispatchPlanner(routeTree, 2, 16, 1));
+    }
+
+    private String run(String line) {
+        StringBuilder out = new StringBuilder();
+        commands.execute(line, out);
+        return out.toString();
+    }
+
+    @Test
+    void pingAndUnknownCommand() {
+        assertEquals("OK PONG\n", run("PING"));
+        assertEquals("ERR bilinmeyen komut\n", run("NOPE 1 2"));
+    }
+
+    @Test
+    void addCustomerValidatesFields() {
+        assertEquals("ERR eksik alan\n", run("ADDC 1"));
+        assertEquals("ERR ID sadece rakamlardan oluşmalı\n", run("ADDC 1a Ali Veli"));
+        assertEquals("ERR isim sadece harflerden oluşmalı\n", run("ADDC 1 Ali 2"));
+        assertEquals("OK\n", run("ADDC 1 Ali Veli"));
+        assertEquals("ERR müşteri ID zaten kullanılıyor\n", run("ADDC 1 Ayşe"));
+    }
+
+    @Test
+    void addShipmentValidatesFields() {
+        run("ADDC 1 Ali");
+        assertEquals("ERR eksik alan\n", run("ADDS 1 10 20240105 false"));
+        assertEquals("ERR müşteri bulunamadı\n", run("ADDS 2 10 20240105 false Bursa"));
+        assertEquals("ERR gönderi ID 1-18 rakam olmalı\n", run("ADDS 1 x 20240105 false Bursa"));
+        assertEquals("ERR geçersiz tarih\n", run("ADDS 1 10 20241305 false Bursa"));
+        assertEquals("ERR şehir rota ağacında bulunamadı\n", run("ADDS 1 10 20240105 false Ankara"));
+        assertEquals("OK 2\n", run("ADDS 1 10 20240105 false Kocaeli"));
+    }
+
+    @Test
+    void cityNamesAreCaseInsensitive() {
+        run("ADDC 1 Ali");
+        run("ADDS 1 10 20240105 false bursa");
+        run("ADDS 1 11 20240105 false  BURSA ");
+        assertEquals("OK 10 20240105 0 1 Bursa\n", run("STATUS 10"));
+        assertEquals(CityTable.intern("Bursa"), CityTable.intern(" bursa"));
+        assertEquals("Bursa", CityTable.name(CityTable.intern("BURSA")));
+    }
+
+    @Test
+    void statusDeliverAndHistory() {
+        run("ADDC 1 Ali");
+        run("ADDS 1 10 20240105 false Bursa");
+        run("ADDS 1 11 20240103 false Kocaeli");
+        assertEquals("OK 10 20240105 0 1 Bursa\n", run("STATUS 10"));
+        assertEquals("NOTFOUND\n", run("STATUS 99"));
+        assertEquals("NOTFOUND\n", run("STATUS abc"));
+        assertEquals("OK\n", run("DELIVER 10"));
+        assertEquals("OK 10 20240105 1 1 Bursa\n", run("STATUS 10"));
+        assertEquals("LIST 2\n11 20240103 0 2 Kocaeli\n10 20240105 1 1 Bursa\n", run("HIST 1"));
+        assertEquals("LIST 1\n11 20240103 0 2 Kocaeli\n", run("UNDELIVERED"));
+        assertEquals("ERR UNDELIVERED [offset limit]\n", run("UNDELIVERED 1"));
+        assertEquals("NOTFOUND\n", run("HIST 7"));
+    }
+
+    @Test
+    void queueAndPlan() {
+        assertEquals("ERR eksik alan\n", run("QUEUE 5"));
+        assertEquals("ERR şehir rota ağacında bulunamadı\n", run("QUEUE 5 Ankara"));
+        assertEquals("OK 2\n", run("QUEUE 5 Kocaeli"));
+        assertEquals("OK 1\n", run("QUEUE 6 Bursa"));
+        assertEquals("OK 0\n", run("QUEUE 7 Istanbul"));
+        assertEquals("ERR PLAN [n]\n", run("PLAN x"));
+        // Kapasite 2: Bursa dalı (Bursa + Kocaeli) tek araç, merkez yarım yük
+        assertEquals("LIST 2\n1 Bursa 2 2 6 5\n2 Istanbul 1 0 7\n", run("PLAN"));
+        assertEquals("LIST 0\n", run("PLAN 10"));
+    }
+}
@@ -0,0 +1,155 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Anlık görüntü + günlük ile yeniden başlatma: bellekteki durum birebir geri gelmeli
+class CargoJournalTest {
+    // Günlüğün bağlandığı yapılar (CargoSystem'deki kurulumun küçük kopyası)
+    private static final class State {
+        final CustomerList customers = new CustomerList();
+        final ShipmentIndex index = new ShipmentIndex();
+        final UndeliveredView undelivered = new UndeliveredView();
+        final ShipmentListeners events = new ShipmentListeners(index, undelivered);
+        final CargoJournal journal;
+
+        State(Path dir) throws IOException {
+            journal = CargoJournal.open(dir, customers, index, events);
+            customers.listener = journal;
+            events.add(journal);
+        }
+
+        Customer customer(String id) {
+            return customers.findCustomerByID(id);
+        }
+
+        void add(String customer, long id, int date, int deliveryTime) {
+            customer(customer).addShipmentSorted(new Shipment(id, date, false, deliveryTime, CityTable.intern("Bursa")));
+        }
+
+        // Karşılaştırma için düz metin: geçmiş, son N, sürüm, görünüm sırası ve indeks sahipleri
+        String describe(long... ids) {
+            StringBuilder sb = new StringBuilder();
+            for(CustomerNode cn = customers.head; cn != null; cn = cn.next) {
+                Customer c = cn.customer;
+                sb.append(c.customerID).append(" v").append(c.version).append(" hist");
+                c.forEachShipment(s -> sb.append(' ').append(s.shipmentID).append(s.delivered ? "d" : ""));
+                Shipment[] last = new Shipment[Customer.LAST_N];
+                int n = c.lastShipments(last);
+                sb.append(" last");
+                for(int i = 0; i < n; i++) {
+                    sb.append(' ').append(last[i].shipmentID);
+                }
+                sb.append('\n');
+            }
+            sb.append("undelivered");
+            undelivered.forEach(s -> sb.append(' ').append(s.shipmentID));
+            sb.append("\nindex");
+            for(long id : ids) {
+                Customer owner = index.ownerOf(id);
+                sb.append(' ').append(id).append('=').append(owner == null ? "-" : owner.customerID);
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final long[] IDS = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 99};
+
+    // Aynı tarihli gönderiler, tarih sırası geliş sırasından farklı, iki müşteride aynı ID
+    private static void fill(State s) {
+        s.customers.addCustomer(new Customer("1", "Ali", s.events));
+        s.customers.addCustomer(new Customer("2", "Ayse", s.events));
+        s.add("1", 1, 20240110, 2);
+        s.add("2", 2, 20240105, 1);
+        s.add("1", 3, 20240101, 2);
+        s.add("1", 4, 20240110, 1);
+        s.add("2", 99, 20240103, 2);
+        s.add("1", 5, 20240120, 2);
+        s.add("1", 6, 20240102, 1);
+        s.add("1", 7, 20240110, 2);
+        s.add("1", 99, 20240115, 1);
+        s.add("2", 8, 20240101, 2);
+        s.customer("1").markDelivered(s.index.findShipment(4), true);
+    }
+
+    @Test
+    void snapshotRestoresArrivalOrder(@TempDir Path dir) throws IOException {
+        State before = new State(dir);
+        fill(before);
+        before.journal.snapshot();
+        String expected = before.describe(IDS);
+        before.journal.close();
+
+        State after = new State(dir);
+        assertEquals(expected, after.describe(IDS));
+        after.journal.close();
+    }
+
+    @Test
+    void snapshotPlusJournalTailRoundTrips(@TempDir Path dir) throws IOException {
+        State before = new State(dir);
+        fill(before);
+        before.journal.snapshot();
+        // Anlık görüntüden sonraki olaylar günlükten gelir
+        before.add("2", 9, 20240101, 2);
+        before.add("1", 10, 20240110, 2);
+        before.customers.addCustomer(new Customer("3", "Can", before.events));
+        before.add("3", 11, 20240107, 1);
+        before.customer("2").markDelivered(before.index.findShipment(2), true);
+        String expected = before.describe(IDS);
+        before.journal.close();
+
+        State after = new State(dir);
+        assertEquals(expected, after.describe(IDS));
+        // İkinci tur: geri yüklenen durumdan alınan anlık görüntü de aynı durumu vermeli
+        after.journal.snapshot();
+        after.journal.close();
+        State again = new State(dir);
+        assertEquals(expected, again.describe(IDS));
+        again.journal.close();
+    }
+
+    @Test
+    void journalOnlyReplay(@TempDir Path dir) throws IOException {
+        State before = new State(dir);
+        fill(before);
+        String expected = before.describe(IDS);
+        before.journal.close();
+
+        State after = new State(dir);
+        assertEquals(expected, after.describe(IDS));
+        after.journal.close();
+    }
+
+    // Disk doluyken tampon taşsa da olay ekleme başarısız olmaz; hata bildirilir, olaylar tamponda bekler
+    @Test
+    void fullDiskDoesNotFailListeners(@TempDir Path dir) throws IOException {
+        Path full = Paths.get("/dev/full");
+        assumeTrue(Files.isWritable(full));
+        Files.createSymbolicLink(dir.resolve("journal-0.log"), full);
+        String previous = System.setProperty("cargo.journal.batchBytes", "256");
+        State state;
+        try {
+            state = new State(dir);
+        } finally {
+            if(previous == null) System.clearProperty("cargo.journal.batchBytes");
+            else System.setProperty("cargo.journal.batchBytes", previous);
+        }
+        state.customers.addCustomer(new Customer("1", "Ali", state.events));
+        for(int i = 1; i <= 100; i++) {
+            state.add("1", i, 20240101 + i % 28, 1 + i % 3);
+        }
+        assertEquals(100, state.customer("1").shipmentCount());
+        assertEquals(100, state.index.size());
+        assertNotNull(state.journal.writeFailure());
+        assertThrows(IOException.class, state.journal::close);
+    }
+}
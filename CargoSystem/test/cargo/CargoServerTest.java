@@ -0,0 +1,69 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sunucu üzerinden satır çerçeveleme: uzun satırın kalanı komut olarak çalıştırılmamalı
+class CargoServerTest {
+    @Test
+    void oversizedLineIsDiscardedUntilNewline() throws Exception {
+        RouteTree routeTree = new RouteTree("Istanbul", "IST01");
+        ShipmentIndex index = new ShipmentIndex();
+        UndeliveredView undelivered = new UndeliveredView();
+        HistoryRenderCache cache = new HistoryRenderCache(1 << 20);
+        CargoCommands commands = new CargoCommands(new CustomerList(), index, undelivered,
+                new ShipmentListeners(index, undelivered, cache), routeTree, new BucketDispatchQueue(),
+                cache, new DispatchPlanner(routeTree, 2, 16, 1));
+        int port;
+        try(ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        CargoServer server = new CargoServer(port, commands);
+        Thread loop = new Thread(() -> {
+            try {
+                server.run();
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        loop.start();
+        try(Socket socket = connect(port)) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            // Sınırı aşan kısım tek başına gelir, hata yanıtı beklenir
+            out.write("x".repeat(20 * 1024).getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertEquals("ERR satır çok uzun", in.readLine());
+            // Aynı satırın devamı: komut gibi görünse de çalıştırılmaz
+            out.write(" ADDC 1 Ali\nPING\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertEquals("OK PONG", in.readLine());
+            out.write("STATUS 1\nADDC 1 Ali\n".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            assertEquals("NOTFOUND", in.readLine());
+            // Müşteri uzun satırdan eklenmediği için ilk ADDC başarılı
+            assertEquals("OK", in.readLine());
+        } finally {
+            server.stop();
+            loop.join(5000);
+        }
+    }
+
+    private static Socket connect(int port) throws Exception {
+        for(int attempt = 0; ; attempt++) {
+            try {
+                return new Socket("127.0.0.1", port);
+            } catch(IOException e) {
+                if(attempt == 50) throw e;
+                Thread.sleep(20);
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Dal gruplama, kapasite bölmesi ve sink hatasında gönderilerin kuyruğa geri verilmesi
+class DispatchPlannerTest {
+    // Istanbul -> Bursa -> Kocaeli, Istanbul -> Edirne
+    private final RouteTree tree = new RouteTree("Istanbul", "IST01");
+
+    DispatchPlannerTest() {
+        RouteNode bursa = new RouteNode("Bursa", "BRS01");
+        RouteNode edirne = new RouteNode("Edirne", "EDR01");
+        tree.root.addChild(bursa);
+        tree.root.addChild(edirne);
+        bursa.addChild(new RouteNode("Kocaeli", "KOC01"));
+    }
+
+    private Shipment shipment(long id, String city) {
+        return new Shipment(id, 20240101, false, tree.transitTime(city), tree.cityOrdinal(city));
+    }
+
+    private static long[] ids(DispatchPlanner.Load load) {
+        long[] out = new long[load.shipments.length];
+        for(int i = 0; i < out.length; i++) {
+            out[i] = load.shipments[i].shipmentID;
+        }
+        return out;
+    }
+
+    @Test
+    void groupsByBranchAndSplitsByCapacity() {
+        DispatchQueue queue = new BucketDispatchQueue();
+        queue.offer(shipment(1, "Kocaeli"));
+        queue.offer(shipment(2, "Bursa"));
+        queue.offer(shipment(3, "Edirne"));
+        queue.offer(shipment(4, "Kocaeli"));
+        queue.offer(shipment(5, "Bursa"));
+        ArrayList<DispatchPlanner.Load> loads = new ArrayList<>();
+        // Küçük pencere: yükler pencere sınırlarını aşar
+        DispatchPlanner planner = new DispatchPlanner(tree, 3, 2, 1);
+        assertEquals(5, planner.plan(queue, Integer.MAX_VALUE, loads::add));
+        assertTrue(queue.isEmpty());
+
+        assertEquals(3, loads.size());
+        // Bursa dalı dolu yük: merkeze yakın durak önce (Bursa 2, 5 sonra Kocaeli 1)
+        assertEquals("Bursa", loads.get(0).branch.cityName);
+        assertArrayEquals(new long[] {2, 5, 1}, ids(loads.get(0)));
+        assertEquals(2, loads.get(0).maxDeliveryTime);
+        // Yarım yükler dal sırasıyla
+        assertEquals("Bursa", loads.get(1).branch.cityName);
+        assertArrayEquals(new long[] {4}, ids(loads.get(1)));
+        assertEquals("Edirne", loads.get(2).branch.cityName);
+        assertArrayEquals(new long[] {3}, ids(loads.get(2)));
+        for(int i = 0; i < loads.size(); i++) {
+            assertEquals(i + 1, loads.get(i).vehicle);
+        }
+    }
+
+    @Test
+    void failedSinkReturnsUnacceptedShipments() {
+        DispatchQueue queue = new BucketDispatchQueue();
+        for(int i = 1; i <= 6; i++) {
+            queue.offer(shipment(i, i % 2 == 0 ? "Edirne" : "Bursa"));
+        }
+        DispatchPlanner planner = new DispatchPlanner(tree, 2, 16, 1);
+        ArrayList<DispatchPlanner.Load> accepted = new ArrayList<>();
+        RuntimeException failure = new RuntimeException("araç yok");
+        assertSame(failure, assertThrows(RuntimeException.class, () -> planner.plan(queue, Integer.MAX_VALUE, load -> {
+            if(accepted.size() == 1) throw failure;
+            accepted.add(load);
+        })));
+        // İlk dolu yük kabul edildi; reddedilen yük, açık yük ve pencerenin kalanı kuyruğa döndü
+        assertEquals(2, accepted.get(0).shipments.length);
+        assertEquals(4, queue.size());
+
+        // Tekrar planlamada kalanlar kaybolmadan, tekrarsız yüklenir
+        ArrayList<Long> rest = new ArrayList<>();
+        assertEquals(4, planner.plan(queue, Integer.MAX_VALUE, load -> {
+            for(Shipment s : load.shipments) {
+                rest.add(s.shipmentID);
+            }
+        }));
+        for(Shipment s : accepted.get(0).shipments) {
+            rest.add(s.shipmentID);
+        }
+        rest.sort(null);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), rest);
+    }
+}
@@ -0,0 +1,57 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Kuyruk türleri aynı öncelik ve seviye semantiğini vermeli (taşma seviyeleri dahil)
+class DispatchQueueTest {
+    private static Shipment shipment(long id, int deliveryTime) {
+        return new Shipment(id, 20240101, false, deliveryTime, 0);
+    }
+
+    private static void checkLevels(DispatchQueue q) {
+        q.offer(shipment(1, 7));
+        q.offer(shipment(2, 5));
+        q.offer(shipment(3, 1));
+        q.offer(shipment(4, 7));
+        ArrayList<Shipment> out = new ArrayList<>();
+        // Alt seviyedeki gönderi başta olsa da istenen seviye boşaltılır, diğerleri yerinde kalır
+        assertEquals(2, q.drainLevel(7, out));
+        assertEquals(1, out.get(0).shipmentID);
+        assertEquals(4, out.get(1).shipmentID);
+        assertEquals(0, q.drainLevel(6, out));
+        assertEquals(2, q.size());
+        assertEquals(3, q.poll().shipmentID);
+        assertEquals(2, q.poll().shipmentID);
+        assertNull(q.poll());
+        assertTrue(q.isEmpty());
+    }
+
+    @Test
+    void concurrentQueueDrainsOverflowLevelOnly() {
+        checkLevels(new ConcurrentDispatchQueue(2));
+    }
+
+    @Test
+    void bucketQueueDrainsLevelOnly() {
+        checkLevels(new BucketDispatchQueue());
+    }
+
+    @Test
+    void overflowLevelsKeepPriorityAndArrivalOrder() {
+        ConcurrentDispatchQueue q = new ConcurrentDispatchQueue(1);
+        q.offer(shipment(1, 9));
+        q.offer(shipment(2, 4));
+        q.offer(shipment(3, 9));
+        q.offer(shipment(4, 0));
+        ArrayList<Shipment> out = new ArrayList<>();
+        assertEquals(3, q.pollN(3, out));
+        assertEquals(4, out.get(0).shipmentID);
+        assertEquals(2, out.get(1).shipmentID);
+        assertEquals(1, out.get(2).shipmentID);
+        assertEquals(3, q.poll().shipmentID);
+    }
+}
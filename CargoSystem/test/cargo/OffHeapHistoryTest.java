@@ -0,0 +1,81 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Parçalı geçmiş, bölünmeler ve toplu birleştirmeden sonra da tarih sırasını (eşitlerde yeni önde) korumalı
+class OffHeapHistoryTest {
+    private final OffHeapShipmentStore store = new OffHeapShipmentStore();
+    // Beklenen sıra: tarih artan, eşitlerde sonra eklenen (büyük sıra no) önde
+    private final ArrayList<int[]> expected = new ArrayList<>();
+    private int order;
+
+    private int add(int date) {
+        int slot = store.add(new Shipment(order + 1, date, false, 1, 0), 0);
+        expected.add(new int[] {date, order++, slot});
+        return slot;
+    }
+
+    private void check(OffHeapHistory history, int fromDate, int toDate) {
+        expected.sort(Comparator.<int[]>comparingInt(e -> e[0]).thenComparingInt(e -> -e[1]));
+        ArrayList<Integer> want = new ArrayList<>();
+        for(int[] e : expected) {
+            if(e[0] >= fromDate && e[0] <= toDate) want.add(e[2]);
+        }
+        ArrayList<Integer> got = new ArrayList<>();
+        history.forEach(fromDate, toDate, got::add);
+        assertEquals(want, got);
+    }
+
+    @Test
+    void randomInsertsStaySorted() {
+        OffHeapHistory history = new OffHeapHistory(store, 5);
+        Random random = new Random(7);
+        int n = OffHeapHistory.CHUNK * 12;
+        for(int i = 0; i < n; i++) {
+            // Az sayıda farklı tarih: eşitler parça sınırlarına da düşer
+            history.insert(add(20240101 + random.nextInt(40)));
+        }
+        assertEquals(n, history.size());
+        check(history, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        check(history, 20240110, 20240120);
+        check(history, 20240139, 20240139);
+    }
+
+    @Test
+    void mergeThenInsert() {
+        OffHeapHistory history = new OffHeapHistory(store, 5);
+        Random random = new Random(11);
+        for(int i = 0; i < 300; i++) {
+            history.insert(add(20240101 + random.nextInt(28)));
+        }
+        int k = OffHeapHistory.CHUNK * 3 + 17;
+        int[] batch = new int[k];
+        for(int i = 0; i < k; i++) {
+            batch[i] = add(20240101 + random.nextInt(28));
+        }
+        // merge girdisi tarih sıralı, eşitlerde yeni önde
+        int[][] byDate = new int[k][];
+        for(int i = 0; i < k; i++) {
+            byDate[i] = new int[] {store.date(batch[i]), i, batch[i]};
+        }
+        Arrays.sort(byDate, Comparator.<int[]>comparingInt(e -> e[0]).thenComparingInt(e -> -e[1]));
+        int[] sorted = new int[k];
+        for(int i = 0; i < k; i++) {
+            sorted[i] = byDate[i][2];
+        }
+        history.merge(sorted, k);
+        for(int i = 0; i < 500; i++) {
+            history.insert(add(20240101 + random.nextInt(28)));
+        }
+        assertEquals(300 + k + 500, history.size());
+        check(history, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        check(history, 20240105, 20240106);
+    }
+}
@@ -0,0 +1,38 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShipmentColumnsTest {
+    private static void add(ShipmentColumns columns, long id, int date) {
+        columns.onShipmentAdded(null, new Shipment(id, date, false, 1, 0));
+    }
+
+    @Test
+    void shipmentsPerDayAcrossMonthAndYearBoundaries() {
+        ShipmentColumns columns = new ShipmentColumns();
+        add(columns, 1, 20231231);
+        add(columns, 2, 20240101);
+        add(columns, 3, 20240101);
+        add(columns, 4, 20240131);
+        add(columns, 5, 20240201);
+        add(columns, 6, 20240302);
+        SortedMap<Integer, Long> perDay = columns.shipmentsPerDay(20240101, 20240201);
+        assertEquals(3, perDay.size());
+        assertEquals(2L, perDay.get(20240101));
+        assertEquals(1L, perDay.get(20240131));
+        assertEquals(1L, perDay.get(20240201));
+        assertEquals(6, columns.shipmentsPerDay(20231201, 20240331).values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    void shipmentsPerDayRejectsHugeRanges() {
+        ShipmentColumns columns = new ShipmentColumns();
+        assertTrue(columns.shipmentsPerDay(20140101, 20231231).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> columns.shipmentsPerDay(10000101, 99991231));
+        assertThrows(IllegalArgumentException.class, () -> columns.shipmentsPerDay(20240102, 20240101));
+    }
+}
@@ -0,0 +1,61 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// sortByDeliveryTime her yolda (sayma / merge, sıralı / paralel) kararlı sıralamalı
+class SortAndSearchTest {
+    private static void checkSorted(int n, int range, long seed) {
+        ShipmentSortBuffer buf = new ShipmentSortBuffer();
+        Random random = new Random(seed);
+        for(int i = 0; i < n; i++) {
+            // Kimlik = ekleme sırası: kararlılık eşit sürelerde artan ID ile kontrol edilir
+            buf.add(new Shipment(i, 20240101, false, random.nextInt(range), 0));
+        }
+        // Tamponu tekrar kullanarak iki kez: ikinci çağrı eski sayaçları sıfırlanmış görmeli
+        for(int round = 0; round < 2; round++) {
+            if(round == 1) {
+                Shipment[] copy = new Shipment[n];
+                for(int i = 0; i < n; i++) {
+                    copy[i] = buf.get(i);
+                }
+                buf.clear();
+                Arrays.sort(copy, (x, y) -> Long.compare(x.shipmentID, y.shipmentID));
+                for(Shipment s : copy) {
+                    buf.add(s);
+                }
+            }
+            SortAndSearch.sortByDeliveryTime(buf);
+            assertEquals(n, buf.size);
+            for(int i = 1; i < n; i++) {
+                Shipment a = buf.get(i - 1);
+                Shipment b = buf.get(i);
+                assertTrue(a.deliveryTime < b.deliveryTime
+                        || (a.deliveryTime == b.deliveryTime && a.shipmentID < b.shipmentID), "konum " + i);
+            }
+        }
+    }
+
+    @Test
+    void smallRangeCounting() {
+        checkSorted(5_000, 30, 1);
+        checkSorted(SortAndSearch.PARALLEL_THRESHOLD * 2, 30, 2);
+    }
+
+    // COUNTING_RANGE_LIMIT < range <= n: küçük girdide sayma, büyük girdide paralel merge sort
+    @Test
+    void midRange() {
+        checkSorted(SortAndSearch.COUNTING_RANGE_LIMIT * 4, SortAndSearch.COUNTING_RANGE_LIMIT * 2, 3);
+        checkSorted(SortAndSearch.PARALLEL_THRESHOLD * 2, SortAndSearch.PARALLEL_THRESHOLD, 4);
+    }
+
+    @Test
+    void wideRangeMerge() {
+        checkSorted(3_000, 1_000_000, 5);
+        checkSorted(SortAndSearch.PARALLEL_THRESHOLD + 1, Integer.MAX_VALUE, 6);
+    }
+}
@@ -0,0 +1,79 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Yığın içi ve yığın dışı görünümler aynı sırayı vermeli: teslim süresi, eşitlerde görünüme giriş sırası
+class UndeliveredViewTest {
+    private static void check(UndeliveredSource view, OffHeapShipmentStore store) {
+        Shipment[] s = new Shipment[6];
+        int[] times = {3, 1, 3, 2, 1, 3};
+        for(int i = 0; i < s.length; i++) {
+            s[i] = new Shipment(i + 1, 20240101, false, times[i], 0);
+            // Görünümler geliş numarasıyla indeksler: müşteriye ekleme (ya da depo) bunu verir
+            if(store != null) store.add(s[i], 0);
+            else s[i].arrival = i;
+            view.onShipmentAdded(null, s[i]);
+        }
+        // Aynı olay iki kez gelirse gönderi tekrarlanmaz
+        view.onShipmentAdded(null, s[0]);
+        assertEquals(6, view.size());
+        assertEquals(list(2, 5, 4, 1, 3, 6), ids(view));
+
+        setDelivered(view, store, s[0], true);
+        setDelivered(view, store, s[4], true);
+        setDelivered(view, store, s[4], true);
+        assertEquals(4, view.size());
+        assertEquals(list(2, 4, 3, 6), ids(view));
+
+        // Geri alınan teslim kovanın sonuna eklenir
+        setDelivered(view, store, s[0], false);
+        assertEquals(list(2, 4, 3, 6, 1), ids(view));
+
+        ArrayList<Long> page = new ArrayList<>();
+        view.forEach(1, 3, x -> page.add(x.shipmentID));
+        assertEquals(list(4, 3, 6), page);
+
+        Iterator<Shipment> it = view.iterator();
+        ArrayList<Long> iterated = new ArrayList<>();
+        while(it.hasNext()) {
+            iterated.add(it.next().shipmentID);
+        }
+        assertEquals(list(2, 4, 3, 6, 1), iterated);
+    }
+
+    private static void setDelivered(UndeliveredSource view, OffHeapShipmentStore store, Shipment s, boolean delivered) {
+        s.delivered = delivered;
+        if(store != null) store.setDelivered(s.arrival, delivered);
+        view.onDeliveryChanged(null, s);
+    }
+
+    private static ArrayList<Long> ids(UndeliveredSource view) {
+        ArrayList<Long> out = new ArrayList<>();
+        view.forEach(x -> out.add(x.shipmentID));
+        return out;
+    }
+
+    private static ArrayList<Long> list(long... ids) {
+        ArrayList<Long> out = new ArrayList<>();
+        for(long id : ids) {
+            out.add(id);
+        }
+        return out;
+    }
+
+    @Test
+    void heapViewKeepsBucketOrder() {
+        check(new UndeliveredView(), null);
+    }
+
+    @Test
+    void offHeapViewKeepsBucketOrder() {
+        OffHeapShipmentStore store = new OffHeapShipmentStore();
+        check(new OffHeapUndeliveredView(store), store);
+    }
+}
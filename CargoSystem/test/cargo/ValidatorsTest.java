@@ -0,0 +1,95 @@
+package cargo;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Tarih ve ID doğrulaması: String ve ByteBuffer sürümleri aynı sonucu vermeli
+class ValidatorsTest {
+    // Tampon başına ve sonuna gürültü eklenir: from/to dışına taşan okuma sonucu bozar
+    private static ByteBuffer framed(String text) {
+        return ByteBuffer.wrap(("9x" + text + "x9").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static int parseDate(String text) {
+        int fromString = Validators.parseDate(text);
+        int fromBuffer = Validators.parseDate(framed(text), 2, 2 + text.length());
+        assertEquals(fromString, fromBuffer, text);
+        return fromString;
+    }
+
+    private static long parseDigits(String text) {
+        long fromString = Validators.parseDigits(text, 0, text.length());
+        long fromBuffer = Validators.parseDigits(framed(text), 2, 2 + text.length());
+        assertEquals(fromString, fromBuffer, text);
+        return fromString;
+    }
+
+    @Test
+    void february29OnlyInLeapYears() {
+        assertEquals(20240229, parseDate("20240229"));
+        assertEquals(-1, parseDate("20230229"));
+        // Yüzyıl kuralı: 400'e bölünen artık, sadece 100'e bölünen değil
+        assertEquals(20000229, parseDate("20000229"));
+        assertEquals(-1, parseDate("19000229"));
+        assertEquals(-1, parseDate("20240230"));
+        assertEquals(20230228, parseDate("20230228"));
+    }
+
+    @Test
+    void thirtyOneDayMonths() {
+        int[] longMonths = {1, 3, 5, 7, 8, 10, 12};
+        for(int month : longMonths) {
+            String date = String.format("2024%02d31", month);
+            assertEquals(Integer.parseInt(date), parseDate(date), date);
+        }
+        int[] shortMonths = {4, 6, 9, 11};
+        for(int month : shortMonths) {
+            String last = String.format("2024%02d30", month);
+            assertEquals(Integer.parseInt(last), parseDate(last), last);
+            assertEquals(-1, parseDate(String.format("2024%02d31", month)));
+        }
+        assertEquals(-1, parseDate("20240132"));
+        assertEquals(-1, parseDate("20240100"));
+    }
+
+    @Test
+    void monthOutOfRange() {
+        assertEquals(-1, parseDate("20240001"));
+        assertEquals(-1, parseDate("20241301"));
+        assertEquals(20241201, parseDate("20241201"));
+    }
+
+    @Test
+    void dateMustBeEightDigits() {
+        assertEquals(-1, parseDate("2024011"));
+        assertEquals(-1, parseDate("202401011"));
+        assertEquals(-1, parseDate("2024-1-1"));
+        assertEquals(-1, parseDate(""));
+    }
+
+    @Test
+    void idLimitIsEighteenDigits() {
+        String max = "9".repeat(Validators.MAX_ID_DIGITS);
+        assertEquals(999_999_999_999_999_999L, parseDigits(max));
+        // 19 hane long'a her zaman sığmaz: reddedilir
+        assertEquals(-1, parseDigits(max + "9"));
+        assertEquals(-1, parseDigits("1" + "0".repeat(Validators.MAX_ID_DIGITS)));
+        assertEquals(0, parseDigits("0"));
+        assertEquals(42, parseDigits("000042"));
+        assertEquals(-1, parseDigits(""));
+        assertEquals(-1, parseDigits("12a4"));
+        assertEquals(-1, parseDigits("-12"));
+    }
+
+    @Test
+    void isDigits() {
+        assertTrue(Validators.isDigits("0123456789"));
+        assertFalse(Validators.isDigits(""));
+        assertFalse(Validators.isDigits("12 3"));
+        assertFalse(Validators.isDigits("١٢٣"));
+    }
+}
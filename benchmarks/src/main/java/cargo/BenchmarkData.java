@@ -0,0 +1,48 @@
+package cargo;
+
+import java.util.SplittableRandom;
+
+// Kıyaslamalar için tekrarlanabilir (sabit tohumlu) veri üretimi
+final class BenchmarkData {
+    static final int CITY_COUNT = 64;
+    private static final int[] CITY_ORDINALS = new int[CITY_COUNT];
+
+    static {
+        for(int i = 0; i < CITY_COUNT; i++) {
+            CITY_ORDINALS[i] = CityTable.intern("Sehir" + i);
+        }
+    }
+
+    private BenchmarkData() {
+    }
+
+    // n gönderi: ID'ler 1..n karışık sırada, tarih 2020-2024 arası, teslim süresi [0, maxDeliveryTime]
+    static Shipment[] shipments(int n, int maxDeliveryTime, long seed) {
+        SplittableRandom r = new SplittableRandom(seed);
+        long[] ids = new long[n];
+        for(int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        for(int i = n - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            long t = ids[i];
+            ids[i] = ids[j];
+            ids[j] = t;
+        }
+        Shipment[] out = new Shipment[n];
+        for(int i = 0; i < n; i++) {
+            out[i] = new Shipment(ids[i], randomDate(r), r.nextInt(4) == 0,
+                    r.nextInt(maxDeliveryTime + 1), CITY_ORDINALS[r.nextInt(CITY_COUNT)]);
+        }
+        return out;
+    }
+
+    // 2020-01-01 ile 2024-12-28 arası geçerli bir YYYYMMDD tarihi
+    static int randomDate(SplittableRandom r) {
+        return (2020 + r.nextInt(5)) * 10000 + (1 + r.nextInt(12)) * 100 + 1 + r.nextInt(28);
+    }
+
+    static String customerId(int i) {
+        return Integer.toString(1_000_000 + i);
+    }
+}
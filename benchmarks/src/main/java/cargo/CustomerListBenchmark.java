@@ -0,0 +1,61 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// CustomerList: ID ile arama (bulunan / bulunmayan) ve müşteri ekleme
+// 10^7 müşteri için: -p customers=10000000 -jvmArgsAppend -Xmx8g (müşteri başına ~600 byte)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CustomerListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int customers;
+
+    private CustomerList list;
+    private String[] hits;
+    private String[] misses;
+    private int cursor;
+    private int nextId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        hits = new String[1024];
+        misses = new String[1024];
+        java.util.SplittableRandom r = new java.util.SplittableRandom(42);
+        for(int i = 0; i < hits.length; i++) {
+            hits[i] = BenchmarkData.customerId(r.nextInt(customers));
+            misses[i] = BenchmarkData.customerId(customers + r.nextInt(customers));
+        }
+    }
+
+    // Her ölçüm turunda liste baştan kurulur, addCustomer turu boyunca büyür
+    @Setup(Level.Iteration)
+    public void fill() {
+        list = new CustomerList();
+        for(int i = 0; i < customers; i++) {
+            list.addCustomer(new Customer(BenchmarkData.customerId(i), "Ad Soyad"));
+        }
+        nextId = customers;
+    }
+
+    @Benchmark
+    public Customer findCustomerByID() {
+        return list.findCustomerByID(hits[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public Customer findMissingCustomer() {
+        return list.findCustomerByID(misses[cursor++ & 1023]);
+    }
+
+    // Müşteri nesnesinin oluşturulması dahil (menü/servis yolundaki gerçek maliyet)
+    @Benchmark
+    public boolean addCustomer() {
+        return list.addCustomer(new Customer(Integer.toString(nextId++), "Ad Soyad"));
+    }
+}
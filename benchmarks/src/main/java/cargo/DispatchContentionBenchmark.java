@@ -0,0 +1,72 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Çok iş parçacıklı dağıtım: 4 üretici offer, 4 tüketici poll aynı kuyruğa
+// ConcurrentDispatchQueue (kova başına kilitsiz FIFO) ile tek kilitli PriorityBlockingQueue karşılaştırması
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchContentionBenchmark {
+    @State(Scope.Group)
+    public static class Queues {
+        Shipment[] pool;
+        ConcurrentDispatchQueue concurrent;
+        PriorityBlockingQueue<Shipment> blocking;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            pool = BenchmarkData.shipments(1 << 16, 8, 17);
+            concurrent = new ConcurrentDispatchQueue(64);
+            blocking = new PriorityBlockingQueue<>(11, new ShipmentComparator());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int i;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            i = (int) (Thread.currentThread().getId() * 7919) & 0xFFFF;
+        }
+
+        Shipment next(Shipment[] pool) {
+            i = (i + 1) & (pool.length - 1);
+            return pool[i];
+        }
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(4)
+    public boolean concurrentOffer(Queues q, Cursor c) {
+        return q.concurrent.offer(c.next(q.pool));
+    }
+
+    @Benchmark
+    @Group("concurrent")
+    @GroupThreads(4)
+    public Shipment concurrentPoll(Queues q) {
+        return q.concurrent.poll();
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(4)
+    public boolean blockingOffer(Queues q, Cursor c) {
+        return q.blocking.offer(c.next(q.pool));
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(4)
+    public Shipment blockingPoll(Queues q) {
+        return q.blocking.poll();
+    }
+}
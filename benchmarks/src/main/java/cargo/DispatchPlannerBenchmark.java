@@ -0,0 +1,70 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Toplu dağıtım planı: kuyrukta QUEUED gönderi varken tamamını araç yüklerine bölme (gönderi başına süre)
+// Rota ağacı: merkez + 8 dal, BenchmarkData'nın 64 şehri her dalda 8 şehirlik bir zincir.
+// Taban: aynı gönderilerin tek tek poll edilmesi (eski menü 8 yolu, gruplama yok).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchPlannerBenchmark {
+    static final int QUEUED = 100_000;
+
+    @Param({"bucket", "concurrent"})
+    String queue;
+
+    @Param({"20", "100"})
+    int capacity;
+
+    private Shipment[] pool;
+    private DispatchQueue dispatchQueue;
+    private DispatchPlanner planner;
+    private int loads;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = BenchmarkData.shipments(QUEUED, 8, 29);
+        RouteTree tree = new RouteTree("Merkez", "C");
+        RouteNode[] nodes = new RouteNode[BenchmarkData.CITY_COUNT];
+        for(int i = 0; i < nodes.length; i++) {
+            nodes[i] = new RouteNode("Sehir" + i, "C" + i);
+            // 0-7 merkezin çocukları, sonrakiler bir üst seviyedeki şehre bağlanır
+            RouteNode parent = i < 8 ? tree.root : nodes[i - 8];
+            parent.addChild(nodes[i]);
+        }
+        dispatchQueue = "bucket".equals(queue) ? new BucketDispatchQueue() : new ConcurrentDispatchQueue(64);
+        planner = new DispatchPlanner(tree, capacity, 4096, 1);
+    }
+
+    @Setup(Level.Invocation)
+    public void fill() {
+        for(Shipment s : pool) {
+            dispatchQueue.offer(s);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUEUED)
+    public int plan() {
+        loads = 0;
+        planner.plan(dispatchQueue, Integer.MAX_VALUE, load -> loads++);
+        return loads;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(QUEUED)
+    public long pollOneByOne() {
+        long sum = 0;
+        Shipment s;
+        while((s = dispatchQueue.poll()) != null) {
+            sum += s.shipmentID;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,85 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+// Tek iş parçacıklı dağıtım: kuyrukta queued gönderi varken bir offer + bir poll (kararlı durum)
+// ve 64'lük toplu pollN. Taban: eski shipmentPQ (PriorityQueue + ShipmentComparator).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchQueueBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int queued;
+
+    private Shipment[] pool;
+    private int cursor;
+    private PriorityQueue<Shipment> priorityQueue;
+    private ConcurrentDispatchQueue concurrent;
+    private BucketDispatchQueue bucket;
+    private final ArrayList<Shipment> batch = new ArrayList<>(64);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        pool = BenchmarkData.shipments(Math.max(queued, 1 << 16), 8, 13);
+        priorityQueue = new PriorityQueue<>(new ShipmentComparator());
+        concurrent = new ConcurrentDispatchQueue(64);
+        bucket = new BucketDispatchQueue();
+        for(int i = 0; i < queued; i++) {
+            priorityQueue.offer(pool[i]);
+            concurrent.offer(pool[i]);
+            bucket.offer(pool[i]);
+        }
+    }
+
+    private Shipment next() {
+        Shipment s = pool[cursor];
+        cursor = cursor + 1 == pool.length ? 0 : cursor + 1;
+        return s;
+    }
+
+    @Benchmark
+    public Shipment priorityQueueOfferPoll() {
+        priorityQueue.offer(next());
+        return priorityQueue.poll();
+    }
+
+    @Benchmark
+    public Shipment concurrentOfferPoll() {
+        concurrent.offer(next());
+        return concurrent.poll();
+    }
+
+    @Benchmark
+    public Shipment bucketOfferPoll() {
+        bucket.offer(next());
+        return bucket.poll();
+    }
+
+    // 64 offer + tek pollN(64): toplu dağıtım yolu
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public int bucketPollN() {
+        for(int i = 0; i < 64; i++) {
+            bucket.offer(next());
+        }
+        batch.clear();
+        return bucket.pollN(64, batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public int concurrentPollN() {
+        for(int i = 0; i < 64; i++) {
+            concurrent.offer(next());
+        }
+        batch.clear();
+        return concurrent.pollN(64, batch);
+    }
+}
@@ -0,0 +1,69 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Rota ağacı sorguları: derin (zincir), geniş (yıldız) ve dengeli (4'lü) ağaçlarda
+// getCityDepth (ad -> düğüm + derinlik), transitTime (önbellekli Dijkstra), LCA ve ağaç mesafesi
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteTreeBenchmark {
+    @Param({"deep", "wide", "balanced"})
+    String shape;
+
+    @Param({"1000", "100000"})
+    int cities;
+
+    private RouteTree tree;
+    private String[] names;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tree = new RouteTree("Merkez", "C0");
+        RouteNode[] nodes = new RouteNode[cities];
+        nodes[0] = tree.root;
+        names = new String[1024];
+        for(int i = 1; i < cities; i++) {
+            nodes[i] = new RouteNode("Sehir" + i, "C" + i);
+            RouteNode parent;
+            switch(shape) {
+                case "deep": parent = nodes[i - 1]; break;
+                case "wide": parent = nodes[0]; break;
+                default: parent = nodes[(i - 1) / 4]; break;
+            }
+            parent.addChild(nodes[i], 1 + i % 3);
+        }
+        java.util.SplittableRandom r = new java.util.SplittableRandom(3);
+        for(int i = 0; i < names.length; i++) {
+            names[i] = nodes[r.nextInt(cities)].cityName;
+        }
+        // Dijkstra önbelleği ölçümden önce dolsun
+        tree.transitTime(names[0]);
+    }
+
+    @Benchmark
+    public int getCityDepth() {
+        return tree.getCityDepth(names[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public int transitTime() {
+        return tree.transitTime(names[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public RouteNode lowestCommonAncestor() {
+        return tree.lowestCommonAncestor(names[cursor++ & 1023], names[(cursor * 7) & 1023]);
+    }
+
+    @Benchmark
+    public long distance() {
+        return tree.distance(names[cursor++ & 1023], names[(cursor * 7) & 1023]);
+    }
+}
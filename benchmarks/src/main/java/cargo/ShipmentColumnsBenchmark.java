@@ -0,0 +1,48 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+// Sütunlu depo toplama sorguları (parçalar paralel taranır)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ShipmentColumnsBenchmark {
+    @Param({"100000", "1000000", "10000000"})
+    int shipments;
+
+    private ShipmentColumns columns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        columns = new ShipmentColumns();
+        for(Shipment s : BenchmarkData.shipments(shipments, 8, 23)) {
+            columns.onShipmentAdded(null, s);
+        }
+    }
+
+    @Benchmark
+    public long undeliveredCount() {
+        return columns.undeliveredCount();
+    }
+
+    @Benchmark
+    public long[] undeliveredByCity() {
+        return columns.undeliveredByCity();
+    }
+
+    @Benchmark
+    public double[] averageDeliveryTimeByCity() {
+        return columns.averageDeliveryTimeByCity();
+    }
+
+    @Benchmark
+    public SortedMap<Integer, Long> shipmentsPerDayOneYear() {
+        return columns.shipmentsPerDay(20220101, 20221231);
+    }
+}
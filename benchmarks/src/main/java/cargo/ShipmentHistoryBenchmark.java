@@ -0,0 +1,61 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Tek müşterinin geçmişi: tarih sırasına ekleme, tarih aralığı sorgusu, son N kopyası
+// shipments = müşterinin mevcut gönderi sayısı
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class ShipmentHistoryBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int shipments;
+
+    private Shipment[] initial;
+    private Customer customer;
+    private final SplittableRandom random = new SplittableRandom(7);
+    private final Shipment[] last = new Shipment[Customer.LAST_N];
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        initial = BenchmarkData.shipments(shipments, 8, 1);
+    }
+
+    // Eklemeler geçmişi büyüttüğü için her turda toplu yükleme ile yeniden kurulur
+    @Setup(Level.Iteration)
+    public void load() {
+        customer = new Customer("1", "Ad Soyad");
+        customer.loadShipmentsBulk(initial, 0, initial.length);
+        nextId = shipments + 1L;
+    }
+
+    @Benchmark
+    public void addShipmentSorted() {
+        customer.addShipmentSorted(new Shipment(nextId++, BenchmarkData.randomDate(random), false, 2, 0));
+    }
+
+    // Yaklaşık 1 haftalık aralık (sonuç boyu shipments ile orantılı)
+    @Benchmark
+    public ArrayList<Shipment> rangeOneWeek() {
+        int from = BenchmarkData.randomDate(random);
+        return customer.history.range(from, from + 6);
+    }
+
+    @Benchmark
+    public ShipmentNode ceiling() {
+        return customer.history.ceiling(BenchmarkData.randomDate(random));
+    }
+
+    @Benchmark
+    public int lastShipments() {
+        return customer.lastShipments(last);
+    }
+}
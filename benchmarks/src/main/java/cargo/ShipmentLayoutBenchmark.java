@@ -0,0 +1,89 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// İlkel alanlı Shipment ile eski String alanlı gönderi düzeninin karşılaştırması
+// Girdi satırından gönderi oluşturma (gc.alloc.rate.norm = gönderi başına byte) ve tarih sıralaması
+// Not: gc.alloc.rate.norm ayrıştırmadaki geçici alt dizgileri de sayar; kalıcı boyut farkı (Shipment 56 byte:
+// görünüm/sütun/depo kayıt alanları dahil, JOL ile ölçüldü; eski düzen nesne + üç String) için yığın dökümü / JOL gerekir.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShipmentLayoutBenchmark {
+    // Eski düzen: ID, tarih ve şehir her gönderide ayrı String
+    static final class StringShipment {
+        final String shipmentID;
+        final String date;
+        final boolean delivered;
+        final int deliveryTime;
+        final String destinationCity;
+
+        StringShipment(String shipmentID, String date, boolean delivered, int deliveryTime, String destinationCity) {
+            this.shipmentID = shipmentID;
+            this.date = date;
+            this.delivered = delivered;
+            this.deliveryTime = deliveryTime;
+            this.destinationCity = destinationCity;
+        }
+    }
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private String[] lines;
+    private Shipment[] compact;
+    private StringShipment[] strings;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Shipment[] source = BenchmarkData.shipments(size, 8, 19);
+        lines = new String[source.length];
+        compact = source;
+        strings = new StringShipment[source.length];
+        for(int i = 0; i < source.length; i++) {
+            Shipment s = source[i];
+            lines[i] = s.shipmentID + "," + s.dateText() + "," + s.destinationCity();
+            strings[i] = new StringShipment(Long.toString(s.shipmentID), s.dateText(), s.delivered,
+                    s.deliveryTime, s.destinationCity());
+        }
+    }
+
+    @Benchmark
+    public Shipment createCompact() {
+        String line = lines[cursor++ % size];
+        int a = line.indexOf(',');
+        int b = line.indexOf(',', a + 1);
+        return new Shipment(line.substring(0, a), line.substring(a + 1, b), false, 2, line.substring(b + 1));
+    }
+
+    @Benchmark
+    public StringShipment createStrings() {
+        String line = lines[cursor++ % size];
+        int a = line.indexOf(',');
+        int b = line.indexOf(',', a + 1);
+        return new StringShipment(line.substring(0, a), line.substring(a + 1, b), false, 2, line.substring(b + 1));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Shipment[] sortCompactByDate() {
+        Shipment[] copy = compact.clone();
+        Arrays.sort(copy, (x, y) -> Integer.compare(x.date, y.date));
+        return copy;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public StringShipment[] sortStringsByDate() {
+        StringShipment[] copy = strings.clone();
+        Arrays.sort(copy, (x, y) -> x.date.compareTo(y.date));
+        return copy;
+    }
+}
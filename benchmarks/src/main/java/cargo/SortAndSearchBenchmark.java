@@ -0,0 +1,76 @@
+package cargo;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// SortAndSearch: eski ArrayList merge sort, tampon tabanlı sortByDeliveryTime
+// (keyRange küçükse sayma sıralaması, büyükse merge sort yolu; 1<<16 üstünde paralel) ve binarySearchByID
+// Sıralama ölçümleri girdinin kopyalanmasını içerir; copyOnly bu taban maliyettir.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class SortAndSearchBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    // Teslim süresi aralığı: 8 = gerçek ağaç derinlikleri, 1000000000 = sayma sıralaması dışı
+    @Param({"8", "1000000000"})
+    int keyRange;
+
+    private Shipment[] input;
+    private ArrayList<Shipment> byId;
+    private long[] probes;
+    private int cursor;
+    private final ShipmentSortBuffer buffer = new ShipmentSortBuffer();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        input = BenchmarkData.shipments(size, keyRange, 11);
+        byId = new ArrayList<>(java.util.Arrays.asList(input));
+        byId.sort(Comparator.comparingLong(s -> s.shipmentID));
+        probes = new long[1024];
+        SplittableRandom r = new SplittableRandom(5);
+        for(int i = 0; i < probes.length; i++) {
+            probes[i] = 1 + r.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public ShipmentSortBuffer copyOnly() {
+        buffer.clear();
+        for(Shipment s : input) {
+            buffer.add(s);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ShipmentSortBuffer sortByDeliveryTime() {
+        buffer.clear();
+        for(Shipment s : input) {
+            buffer.add(s);
+        }
+        SortAndSearch.sortByDeliveryTime(buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public ArrayList<Shipment> mergeSortList() {
+        ArrayList<Shipment> list = new ArrayList<>(java.util.Arrays.asList(input));
+        SortAndSearch.mergeSort(list);
+        return list;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int binarySearchByID() {
+        return SortAndSearch.binarySearchByID(byId, probes[cursor++ & 1023]);
+    }
+}